@@ -0,0 +1,37 @@
+package de.ossi.pojo;
+
+import de.ossi.pojo.SetterReflectionUtil.Setter;
+import de.ossi.pojo.benchmarks.WideBean200;
+import de.ossi.pojo.benchmarks.WideBean50;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the scan of the setters, which is done once per bean class and setter prefix, when its plan is built.
+ * Lives in the package of the pojopopulator, because the scan is package-private.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SetterScanBenchmark {
+
+    @Benchmark
+    public List<Setter> scanEmployee() {
+        return SetterReflectionUtil.getAllSetters(Employee.class, "set", AccessStrategy.METHOD_HANDLE);
+    }
+
+    @Benchmark
+    public List<Setter> scan50() {
+        return SetterReflectionUtil.getAllSetters(WideBean50.class, "set", AccessStrategy.METHOD_HANDLE);
+    }
+
+    @Benchmark
+    public List<Setter> scan200() {
+        return SetterReflectionUtil.getAllSetters(WideBean200.class, "set", AccessStrategy.METHOD_HANDLE);
+    }
+}
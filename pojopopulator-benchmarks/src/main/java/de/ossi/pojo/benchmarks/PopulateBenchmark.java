@@ -0,0 +1,76 @@
+package de.ossi.pojo.benchmarks;
+
+import de.ossi.pojo.Employee;
+import de.ossi.pojo.PojoPopulator;
+import de.ossi.pojo.PopulatorTemplate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the populate pipeline for a single {@link Employee} per operation.
+ * The Employee is the fixture of the tests, shared by the test-jar of the pojopopulator.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PopulateBenchmark {
+
+    private PopulatorTemplate<Employee> template;
+    private PopulatorTemplate<Employee> randomTemplate;
+    private PopulatorTemplate<Employee> lxmRandomTemplate;
+
+    @Setup
+    public void setup() {
+        template = PojoPopulator.template(Employee.class);
+        randomTemplate = PojoPopulator.template(Employee.class, PojoPopulator::usingRandomDefaultValues);
+        lxmRandomTemplate = PojoPopulator.template(Employee.class, populator -> populator
+                .usingRandomDefaultValues()
+                .usingRandomGenerator("L64X128MixRandom")
+                .usingRandomStrings(8, 16));
+    }
+
+    @Benchmark
+    public Employee create() {
+        return PojoPopulator.create(Employee.class);
+    }
+
+    @Benchmark
+    public Employee createWithValuesByName() {
+        return PojoPopulator.create(Employee.class, populator -> populator
+                .withValue("firstname", () -> "firstname")
+                .withValue("lastname", () -> "lastname")
+                .withValue("id", () -> 42));
+    }
+
+    @Benchmark
+    public Employee createWithValuesByType() {
+        return PojoPopulator.create(Employee.class, populator -> populator
+                .withValue(String.class, () -> "value")
+                .withValue(Integer.class, () -> 42)
+                .withValue(double.class, () -> 2.0));
+    }
+
+    @Benchmark
+    public Employee createWithRandomDefaultValues() {
+        return PojoPopulator.create(Employee.class, PojoPopulator::usingRandomDefaultValues);
+    }
+
+    @Benchmark
+    public Employee templateMake() {
+        return template.make();
+    }
+
+    @Benchmark
+    public Employee templateMakeWithRandomDefaultValues() {
+        return randomTemplate.make();
+    }
+
+    @Benchmark
+    public Employee templateMakeWithLxmRandomDefaultValuesAndStrings() {
+        return lxmRandomTemplate.make();
+    }
+}
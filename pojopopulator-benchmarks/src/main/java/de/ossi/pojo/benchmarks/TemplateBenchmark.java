@@ -0,0 +1,36 @@
+package de.ossi.pojo.benchmarks;
+
+import de.ossi.pojo.Employee;
+import de.ossi.pojo.PojoPopulator;
+import de.ossi.pojo.PopulatorTemplate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the creation of a template, which resolves the suppliers against the setters of the bean.
+ * The setters are scanned once per bean class, so the setup prepares the beans and only the resolution is measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TemplateBenchmark {
+
+    @Setup
+    public void setup() {
+        PojoPopulator.prepare(Employee.class, WideBean200.class);
+    }
+
+    @Benchmark
+    public PopulatorTemplate<Employee> templateOfEmployee() {
+        return PojoPopulator.template(Employee.class);
+    }
+
+    @Benchmark
+    public PopulatorTemplate<WideBean200> templateOfWideBean200() {
+        return PojoPopulator.template(WideBean200.class);
+    }
+}
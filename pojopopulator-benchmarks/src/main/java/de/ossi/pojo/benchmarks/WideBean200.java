@@ -0,0 +1,216 @@
+package de.ossi.pojo.benchmarks;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Bean with 200 setters of mixed types.
+ */
+@SuppressWarnings("unused")
+@Getter
+@Setter
+public class WideBean200 {
+    private String property0;
+    private Integer property1;
+    private Long property2;
+    private int property3;
+    private double property4;
+    private LocalDate property5;
+    private boolean property6;
+    private LocalDateTime property7;
+    private String property8;
+    private Integer property9;
+    private Long property10;
+    private int property11;
+    private double property12;
+    private LocalDate property13;
+    private boolean property14;
+    private LocalDateTime property15;
+    private String property16;
+    private Integer property17;
+    private Long property18;
+    private int property19;
+    private double property20;
+    private LocalDate property21;
+    private boolean property22;
+    private LocalDateTime property23;
+    private String property24;
+    private Integer property25;
+    private Long property26;
+    private int property27;
+    private double property28;
+    private LocalDate property29;
+    private boolean property30;
+    private LocalDateTime property31;
+    private String property32;
+    private Integer property33;
+    private Long property34;
+    private int property35;
+    private double property36;
+    private LocalDate property37;
+    private boolean property38;
+    private LocalDateTime property39;
+    private String property40;
+    private Integer property41;
+    private Long property42;
+    private int property43;
+    private double property44;
+    private LocalDate property45;
+    private boolean property46;
+    private LocalDateTime property47;
+    private String property48;
+    private Integer property49;
+    private Long property50;
+    private int property51;
+    private double property52;
+    private LocalDate property53;
+    private boolean property54;
+    private LocalDateTime property55;
+    private String property56;
+    private Integer property57;
+    private Long property58;
+    private int property59;
+    private double property60;
+    private LocalDate property61;
+    private boolean property62;
+    private LocalDateTime property63;
+    private String property64;
+    private Integer property65;
+    private Long property66;
+    private int property67;
+    private double property68;
+    private LocalDate property69;
+    private boolean property70;
+    private LocalDateTime property71;
+    private String property72;
+    private Integer property73;
+    private Long property74;
+    private int property75;
+    private double property76;
+    private LocalDate property77;
+    private boolean property78;
+    private LocalDateTime property79;
+    private String property80;
+    private Integer property81;
+    private Long property82;
+    private int property83;
+    private double property84;
+    private LocalDate property85;
+    private boolean property86;
+    private LocalDateTime property87;
+    private String property88;
+    private Integer property89;
+    private Long property90;
+    private int property91;
+    private double property92;
+    private LocalDate property93;
+    private boolean property94;
+    private LocalDateTime property95;
+    private String property96;
+    private Integer property97;
+    private Long property98;
+    private int property99;
+    private double property100;
+    private LocalDate property101;
+    private boolean property102;
+    private LocalDateTime property103;
+    private String property104;
+    private Integer property105;
+    private Long property106;
+    private int property107;
+    private double property108;
+    private LocalDate property109;
+    private boolean property110;
+    private LocalDateTime property111;
+    private String property112;
+    private Integer property113;
+    private Long property114;
+    private int property115;
+    private double property116;
+    private LocalDate property117;
+    private boolean property118;
+    private LocalDateTime property119;
+    private String property120;
+    private Integer property121;
+    private Long property122;
+    private int property123;
+    private double property124;
+    private LocalDate property125;
+    private boolean property126;
+    private LocalDateTime property127;
+    private String property128;
+    private Integer property129;
+    private Long property130;
+    private int property131;
+    private double property132;
+    private LocalDate property133;
+    private boolean property134;
+    private LocalDateTime property135;
+    private String property136;
+    private Integer property137;
+    private Long property138;
+    private int property139;
+    private double property140;
+    private LocalDate property141;
+    private boolean property142;
+    private LocalDateTime property143;
+    private String property144;
+    private Integer property145;
+    private Long property146;
+    private int property147;
+    private double property148;
+    private LocalDate property149;
+    private boolean property150;
+    private LocalDateTime property151;
+    private String property152;
+    private Integer property153;
+    private Long property154;
+    private int property155;
+    private double property156;
+    private LocalDate property157;
+    private boolean property158;
+    private LocalDateTime property159;
+    private String property160;
+    private Integer property161;
+    private Long property162;
+    private int property163;
+    private double property164;
+    private LocalDate property165;
+    private boolean property166;
+    private LocalDateTime property167;
+    private String property168;
+    private Integer property169;
+    private Long property170;
+    private int property171;
+    private double property172;
+    private LocalDate property173;
+    private boolean property174;
+    private LocalDateTime property175;
+    private String property176;
+    private Integer property177;
+    private Long property178;
+    private int property179;
+    private double property180;
+    private LocalDate property181;
+    private boolean property182;
+    private LocalDateTime property183;
+    private String property184;
+    private Integer property185;
+    private Long property186;
+    private int property187;
+    private double property188;
+    private LocalDate property189;
+    private boolean property190;
+    private LocalDateTime property191;
+    private String property192;
+    private Integer property193;
+    private Long property194;
+    private int property195;
+    private double property196;
+    private LocalDate property197;
+    private boolean property198;
+    private LocalDateTime property199;
+}
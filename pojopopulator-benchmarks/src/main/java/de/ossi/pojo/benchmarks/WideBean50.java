@@ -0,0 +1,66 @@
+package de.ossi.pojo.benchmarks;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Bean with 50 setters of mixed types.
+ */
+@SuppressWarnings("unused")
+@Getter
+@Setter
+public class WideBean50 {
+    private String property0;
+    private Integer property1;
+    private Long property2;
+    private int property3;
+    private double property4;
+    private LocalDate property5;
+    private boolean property6;
+    private LocalDateTime property7;
+    private String property8;
+    private Integer property9;
+    private Long property10;
+    private int property11;
+    private double property12;
+    private LocalDate property13;
+    private boolean property14;
+    private LocalDateTime property15;
+    private String property16;
+    private Integer property17;
+    private Long property18;
+    private int property19;
+    private double property20;
+    private LocalDate property21;
+    private boolean property22;
+    private LocalDateTime property23;
+    private String property24;
+    private Integer property25;
+    private Long property26;
+    private int property27;
+    private double property28;
+    private LocalDate property29;
+    private boolean property30;
+    private LocalDateTime property31;
+    private String property32;
+    private Integer property33;
+    private Long property34;
+    private int property35;
+    private double property36;
+    private LocalDate property37;
+    private boolean property38;
+    private LocalDateTime property39;
+    private String property40;
+    private Integer property41;
+    private Long property42;
+    private int property43;
+    private double property44;
+    private LocalDate property45;
+    private boolean property46;
+    private LocalDateTime property47;
+    private String property48;
+    private Integer property49;
+}
@@ -0,0 +1,48 @@
+package de.ossi.pojo.benchmarks;
+
+import de.ossi.pojo.PojoPopulator;
+import de.ossi.pojo.PopulatorTemplate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the populate pipeline for beans with 50 and 200 setters.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WideBeanBenchmark {
+
+    private PopulatorTemplate<WideBean50> template50;
+    private PopulatorTemplate<WideBean200> template200;
+
+    @Setup
+    public void setup() {
+        template50 = PojoPopulator.template(WideBean50.class);
+        template200 = PojoPopulator.template(WideBean200.class);
+    }
+
+    @Benchmark
+    public WideBean50 create50() {
+        return PojoPopulator.create(WideBean50.class);
+    }
+
+    @Benchmark
+    public WideBean200 create200() {
+        return PojoPopulator.create(WideBean200.class);
+    }
+
+    @Benchmark
+    public WideBean50 templateMake50() {
+        return template50.make();
+    }
+
+    @Benchmark
+    public WideBean200 templateMake200() {
+        return template200.make();
+    }
+}
@@ -0,0 +1,188 @@
+package de.ossi.pojo.processor;
+
+import de.ossi.pojo.GeneratedPopulator;
+import de.ossi.pojo.Populatable;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Generates a {@link GeneratedPopulator} for every bean annotated with {@link Populatable}
+ * and registers all of them in META-INF/services, so they are picked up by the PojoPopulator.
+ * The generated populators call the NoArgs Constructor and all public one argument methods directly.
+ */
+@SupportedAnnotationTypes("de.ossi.pojo.Populatable")
+public class PopulatableProcessor extends AbstractProcessor {
+
+    private static final String SERVICE_FILE = "META-INF/services/" + GeneratedPopulator.class.getName();
+
+    private final Set<String> generatedPopulators = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(Populatable.class)) {
+            if (isPopulatable(element)) {
+                generatePopulator((TypeElement) element);
+            }
+        }
+        if (roundEnv.processingOver() && !generatedPopulators.isEmpty()) {
+            writeServiceFile();
+        }
+        return true;
+    }
+
+    private boolean isPopulatable(Element element) {
+        Set<Modifier> modifiers = element.getModifiers();
+        if (element.getKind() != ElementKind.CLASS || modifiers.contains(Modifier.ABSTRACT)) {
+            return error(element, "Only concrete classes can be annotated with @Populatable.");
+        }
+        if (modifiers.contains(Modifier.PRIVATE)
+                || element.getEnclosingElement().getKind() != ElementKind.PACKAGE && !modifiers.contains(Modifier.STATIC)) {
+            return error(element, "A class annotated with @Populatable must not be private or an inner class.");
+        }
+        boolean hasNoArgsConstructor = ElementFilter.constructorsIn(element.getEnclosedElements()).stream()
+                .anyMatch(c -> c.getParameters().isEmpty() && !c.getModifiers().contains(Modifier.PRIVATE));
+        if (!hasNoArgsConstructor) {
+            return error(element, "A class annotated with @Populatable needs a NoArgs Constructor, which is not private.");
+        }
+        return true;
+    }
+
+    private boolean error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+        return false;
+    }
+
+    private void generatePopulator(TypeElement bean) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(bean).getQualifiedName().toString();
+        String beanName = bean.getQualifiedName().toString();
+        String populatorName = populatorName(bean, packageName);
+        String qualifiedPopulatorName = packageName.isEmpty() ? populatorName : packageName + "." + populatorName;
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(qualifiedPopulatorName, bean);
+            try (PrintWriter out = new PrintWriter(sourceFile.openWriter())) {
+                if (!packageName.isEmpty()) {
+                    out.println("package " + packageName + ";");
+                    out.println();
+                }
+                out.println("import de.ossi.pojo.GeneratedPopulator;");
+                out.println();
+                out.println("import java.util.List;");
+                out.println();
+                out.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+                out.println("public final class " + populatorName + " implements GeneratedPopulator<" + beanName + "> {");
+                out.println();
+                out.println("    @Override");
+                out.println("    public Class<" + beanName + "> beanClass() {");
+                out.println("        return " + beanName + ".class;");
+                out.println("    }");
+                out.println();
+                out.println("    @Override");
+                out.println("    public " + beanName + " newInstance() {");
+                out.println("        return new " + beanName + "();");
+                out.println("    }");
+                out.println();
+                out.println("    @Override");
+                out.println("    public List<GeneratedSetter<" + beanName + ">> setters() {");
+                out.println("        return List.of(");
+                List<ExecutableElement> setters = setters(bean);
+                for (int i = 0; i < setters.size(); i++) {
+                    out.print("                " + generatedSetter(bean, setters.get(i)));
+                    out.println(i < setters.size() - 1 ? "," : "");
+                }
+                out.println("        );");
+                out.println("    }");
+                out.println("}");
+            }
+        } catch (IOException e) {
+            error(bean, "Could not generate the populator: " + e.getMessage());
+            return;
+        }
+        generatedPopulators.add(qualifiedPopulatorName);
+    }
+
+    /**
+     * Nested beans are flattened, e.g. Outer.Inner results in Outer_InnerPopulator.
+     */
+    private static String populatorName(TypeElement bean, String packageName) {
+        String qualifiedName = bean.getQualifiedName().toString();
+        String nameInPackage = packageName.isEmpty() ? qualifiedName : qualifiedName.substring(packageName.length() + 1);
+        return nameInPackage.replace('.', '_') + "Populator";
+    }
+
+    /**
+     * All public methods with one argument including the inherited ones, like {@link Class#getMethods()}.
+     */
+    private List<ExecutableElement> setters(TypeElement bean) {
+        return ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(bean)).stream()
+                .filter(m -> m.getModifiers().contains(Modifier.PUBLIC))
+                .filter(m -> !m.getModifiers().contains(Modifier.STATIC))
+                .filter(m -> m.getParameters().size() == 1)
+                .filter(m -> !((TypeElement) m.getEnclosingElement()).getQualifiedName().contentEquals(Object.class.getName()))
+                .toList();
+    }
+
+    /**
+     * Setters of int, long, double, float and boolean get a typed writer, so the values are written without boxing.
+     */
+    private String generatedSetter(TypeElement bean, ExecutableElement setter) {
+        //resolves type variables of generic superclasses
+        ExecutableType setterType = (ExecutableType) processingEnv.getTypeUtils().asMemberOf((DeclaredType) bean.asType(), setter);
+        TypeMirror parameterType = processingEnv.getTypeUtils().erasure(setterType.getParameterTypes().get(0));
+        String methodName = setter.getSimpleName().toString();
+        String factory = "GeneratedSetter.<" + bean.getQualifiedName() + ">";
+        String typedFactory = switch (parameterType.getKind()) {
+            case INT -> "ofInt";
+            case LONG -> "ofLong";
+            case DOUBLE -> "ofDouble";
+            case FLOAT -> "ofFloat";
+            case BOOLEAN -> "ofBoolean";
+            default -> null;
+        };
+        if (typedFactory != null) {
+            return factory + typedFactory + "(\"" + methodName + "\", (bean, value) -> bean." + methodName + "(value))";
+        }
+        String castType = parameterType.getKind().isPrimitive()
+                ? processingEnv.getTypeUtils().boxedClass((PrimitiveType) parameterType).getQualifiedName().toString()
+                : parameterType.toString();
+        return factory + "of(\"" + methodName + "\", " + parameterType + ".class, "
+                + "(bean, value) -> bean." + methodName + "((" + castType + ") value))";
+    }
+
+    private void writeServiceFile() {
+        try {
+            FileObject serviceFile = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = serviceFile.openWriter()) {
+                for (String populator : generatedPopulators) {
+                    writer.write(populator);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not register the generated populators: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package de.ossi.pojo.processor;
+
+import de.ossi.pojo.Populatable;
+
+import java.time.LocalDate;
+
+@SuppressWarnings("unused")
+@Populatable
+public class GeneratedBean {
+    private String name;
+    private Integer id;
+    private int count;
+    private double amount;
+    private LocalDate day;
+    private String city;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public double getAmount() {
+        return amount;
+    }
+
+    public void setAmount(double amount) {
+        this.amount = amount;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+
+    public String holeCity() {
+        return city;
+    }
+
+    public void setzeCity(String city) {
+        this.city = city;
+    }
+}
@@ -0,0 +1,102 @@
+package de.ossi.pojo.processor;
+
+import de.ossi.pojo.AccessStrategy;
+import de.ossi.pojo.GeneratedPopulator;
+import de.ossi.pojo.GeneratedPopulator.DoubleWriter;
+import de.ossi.pojo.GeneratedPopulator.GeneratedSetter;
+import de.ossi.pojo.GeneratedPopulator.IntWriter;
+import de.ossi.pojo.PojoPopulator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+import static de.ossi.pojo.PojoPopulator.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PopulatableProcessorTest {
+
+    @Test
+    void populatorShouldBeGeneratedForAnnotatedBean() throws Exception {
+        //given
+        //when
+        Class<?> populatorClass = Class.forName("de.ossi.pojo.processor.GeneratedBeanPopulator");
+        //then
+        assertThat(GeneratedPopulator.class).isAssignableFrom(populatorClass);
+    }
+
+    @Test
+    void primitiveSettersShouldBeGeneratedWithTypedWriters() throws Exception {
+        //given
+        GeneratedPopulator<?> populator = (GeneratedPopulator<?>) Class.forName("de.ossi.pojo.processor.GeneratedBeanPopulator")
+                .getConstructor().newInstance();
+        //when
+        Map<String, Object> writers = populator.setters().stream()
+                .collect(Collectors.toMap(GeneratedSetter::methodName, GeneratedSetter::writer));
+        //then
+        assertThat(writers.get("setCount")).isInstanceOf(IntWriter.class);
+        assertThat(writers.get("setAmount")).isInstanceOf(DoubleWriter.class);
+        assertThat(writers.get("setName")).isInstanceOf(BiConsumer.class);
+    }
+
+    @Test
+    void generatedPopulatorShouldBeUsedByPojoPopulator() {
+        //given
+        //when
+        AccessStrategy accessStrategy = PojoPopulator.accessStrategy(GeneratedBean.class);
+        //then
+        assertThat(accessStrategy).isEqualTo(AccessStrategy.GENERATED);
+    }
+
+    @Test
+    void beanShouldBePopulatedWithDefaultValues() {
+        //given
+        //when
+        GeneratedBean bean = PojoPopulator.create(GeneratedBean.class);
+        //then
+        assertThat(bean)
+                .extracting(GeneratedBean::getName, GeneratedBean::getId, GeneratedBean::getCount, GeneratedBean::getAmount, GeneratedBean::getDay)
+                .containsExactly(DEFAULT_STRING, DEFAULT_NUMBER, DEFAULT_NUMBER.intValue(), DEFAULT_NUMBER.doubleValue(), DEFAULT_LOCALDATE);
+    }
+
+    @Test
+    void beanShouldBePopulatedWithSpecifiedValues() {
+        //given
+        //when
+        GeneratedBean bean = PojoPopulator.create(GeneratedBean.class, populator -> populator
+                .withValue("name", () -> "name1")
+                .withValue(Integer.class, () -> 2)
+                .withInt("count", () -> 3));
+        //then
+        assertThat(bean)
+                .extracting(GeneratedBean::getName, GeneratedBean::getId, GeneratedBean::getCount)
+                .containsExactly("name1", 2, 3);
+    }
+
+    @Test
+    void setterPrefixShouldBeApplied() {
+        //given
+        //when
+        GeneratedBean bean = PojoPopulator.create(GeneratedBean.class, populator -> populator
+                .withValue("city", () -> "city1")
+                .usingSetterPrefix("setze"));
+        //then
+        assertThat(bean)
+                .extracting(GeneratedBean::holeCity, GeneratedBean::getName)
+                .containsExactly("city1", null);
+    }
+
+    @Test
+    void randomDefaultValuesShouldBeApplied() {
+        //given
+        //when
+        GeneratedBean bean1 = PojoPopulator.create(GeneratedBean.class, populator -> populator.usingRandomDefaultValues().usingSeed(42));
+        GeneratedBean bean2 = PojoPopulator.create(GeneratedBean.class, populator -> populator.usingRandomDefaultValues().usingSeed(42));
+        //then
+        assertThat(bean1)
+                .usingRecursiveComparison()
+                .isEqualTo(bean2);
+        assertThat(bean1.getDay()).isNotEqualTo(DEFAULT_LOCALDATE);
+    }
+}
@@ -0,0 +1,21 @@
+package de.ossi.pojo;
+
+/**
+ * The way the constructor and the setters of a bean are invoked.
+ *
+ * @see PojoPopulator#accessStrategy(Class)
+ */
+public enum AccessStrategy {
+    /**
+     * The members are called directly by a {@link GeneratedPopulator}, which was generated for a bean annotated with {@link Populatable}.
+     */
+    GENERATED,
+    /**
+     * The members are bound once to {@link java.lang.invoke.MethodHandle}s, which can be inlined by the JIT.
+     */
+    METHOD_HANDLE,
+    /**
+     * The members are invoked per Reflection. Used as a fallback, if the bean class is not public accessible.
+     */
+    REFLECTION
+}
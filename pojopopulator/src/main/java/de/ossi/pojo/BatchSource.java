@@ -0,0 +1,42 @@
+package de.ossi.pojo;
+
+import java.util.List;
+
+/**
+ * Adapts a {@link BatchSupplier} to a {@link ValueSource}.
+ * Every thread prefetches its own batches, so the values of a bean are read from a buffer without synchronization.
+ * The batch size starts small and doubles up to the max batch size, so making a single bean doesn't prefetch a full batch.
+ */
+final class BatchSource implements ValueSource {
+
+    private static final int INITIAL_BATCH_SIZE = 16;
+
+    private final BatchSupplier<?> supplier;
+    private final int maxBatchSize;
+    private final ThreadLocal<Buffer> buffers = ThreadLocal.withInitial(Buffer::new);
+
+    BatchSource(BatchSupplier<?> supplier, int maxBatchSize) {
+        this.supplier = supplier;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public Object next(GenerationContext context) {
+        Buffer buffer = buffers.get();
+        if (buffer.index == buffer.values.size()) {
+            buffer.batchSize = Math.min(buffer.batchSize * 2, maxBatchSize);
+            buffer.values = supplier.next(buffer.batchSize);
+            buffer.index = 0;
+            if (buffer.values.isEmpty()) {
+                throw new IllegalStateException("The batch supplier returned no values.");
+            }
+        }
+        return buffer.values.get(buffer.index++);
+    }
+
+    private static final class Buffer {
+        private List<?> values = List.of();
+        private int index;
+        private int batchSize = INITIAL_BATCH_SIZE / 2;
+    }
+}
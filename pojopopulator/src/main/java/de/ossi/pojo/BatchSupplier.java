@@ -0,0 +1,23 @@
+package de.ossi.pojo;
+
+import java.util.List;
+
+/**
+ * Supplier of property values, which are fetched in batches.
+ * Used for expensive sources like dictionary files or embedded databases, whose cost per call can be amortized over many values.
+ * Every thread prefetches its own batches, so the supplier must be thread-safe, if the beans are made by several threads,
+ * e.g. by {@link PopulatorTemplate#makeParallel(int, long)}.
+ *
+ * @param <T> the type of the values
+ * @see PojoPopulator#withBatchValue(String, BatchSupplier, int)
+ */
+@FunctionalInterface
+public interface BatchSupplier<T> {
+
+    /**
+     * Returns the next values. Returning fewer values than requested is allowed, but at least one value must be returned.
+     *
+     * @param count the number of values requested
+     */
+    List<T> next(int count);
+}
@@ -0,0 +1,327 @@
+package de.ossi.pojo;
+
+import de.ossi.pojo.SetterReflectionUtil.Setter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reflection data of a bean class, which is discovered once and then shared by all populators.
+ * The plans are cached per class in a {@link ClassValue}, so they don't prevent the class from being unloaded.
+ */
+final class BeanPlan {
+
+    private static final ClassValue<BeanPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected BeanPlan computeValue(Class<?> beanClass) {
+            PLANS_BUILT.get()[0]++;
+            PlanBuildEvent event = new PlanBuildEvent();
+            event.begin();
+            BeanPlan plan = new BeanPlan(beanClass);
+            event.beanClass = beanClass;
+            event.commit();
+            return plan;
+        }
+    };
+    //the number of plans built by the current thread, so a lookup can tell whether it hit the cache
+    private static final ThreadLocal<int[]> PLANS_BUILT = ThreadLocal.withInitial(() -> new int[1]);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    private final Class<?> beanClass;
+    private final GeneratedPopulator<?> generatedPopulator;
+    private final AccessStrategy accessStrategy;
+    private final boolean nestable;
+    //the canonical constructor of a record or the single constructor of a class without a NoArgs Constructor, otherwise null
+    private final Constructor<?> populatingConstructor;
+    private final Map<String, List<Setter>> settersByPrefix = new ConcurrentHashMap<>();
+    //resolved lazily, because most beans are populated by setters
+    private volatile List<Setter> fields;
+    //resolved lazily, because only interfaces of lazy beans have getters to implement
+    private volatile List<Method> abstractMethods;
+    private volatile List<Method> getters;
+    //resolved lazily, because a bean without a NoArgs Constructor should only fail when it is made
+    private volatile Instantiator instantiator;
+    private volatile MethodHandle constructorHandle;
+
+    private BeanPlan(Class<?> beanClass) {
+        this.beanClass = beanClass;
+        this.generatedPopulator = GeneratedPopulators.find(beanClass);
+        this.accessStrategy = generatedPopulator != null ? AccessStrategy.GENERATED : accessStrategyOf(beanClass);
+        this.populatingConstructor = generatedPopulator != null ? null : findPopulatingConstructor(beanClass);
+        this.nestable = generatedPopulator != null || isNestable(beanClass, populatingConstructor);
+    }
+
+    static BeanPlan of(Class<?> beanClass) {
+        return PLANS.get(beanClass);
+    }
+
+    /**
+     * Like {@link #of(Class)}, but reports to the metrics, whether the plan was cached.
+     */
+    static BeanPlan of(Class<?> beanClass, PopulatorMetrics metrics) {
+        if (metrics == null) {
+            return PLANS.get(beanClass);
+        }
+        int[] plansBuilt = PLANS_BUILT.get();
+        int before = plansBuilt[0];
+        BeanPlan plan = PLANS.get(beanClass);
+        metrics.planLookup(beanClass, plansBuilt[0] == before);
+        return plan;
+    }
+
+    private static AccessStrategy accessStrategyOf(Class<?> beanClass) {
+        try {
+            MethodHandles.publicLookup().accessClass(beanClass);
+            return AccessStrategy.METHOD_HANDLE;
+        } catch (IllegalAccessException e) {
+            return AccessStrategy.REFLECTION;
+        }
+    }
+
+    private static boolean isNestable(Class<?> beanClass, Constructor<?> populatingConstructor) {
+        if (beanClass.isPrimitive() || beanClass.isArray() || beanClass.isInterface() || beanClass.isEnum()
+                || Modifier.isAbstract(beanClass.getModifiers())) {
+            return false;
+        }
+        String packageName = beanClass.getPackageName();
+        if (packageName.startsWith("java.") || packageName.startsWith("javax.")) {
+            return false;
+        }
+        return populatingConstructor != null || hasNoArgsConstructor(beanClass);
+    }
+
+    private static boolean hasNoArgsConstructor(Class<?> beanClass) {
+        return Arrays.stream(beanClass.getDeclaredConstructors()).anyMatch(c -> c.getParameterCount() == 0);
+    }
+
+    private static Constructor<?> findPopulatingConstructor(Class<?> beanClass) {
+        if (beanClass.isRecord()) {
+            Class<?>[] componentTypes = Arrays.stream(beanClass.getRecordComponents()).map(RecordComponent::getType).toArray(Class<?>[]::new);
+            try {
+                return beanClass.getDeclaredConstructor(componentTypes);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("The record " + beanClass.getName() + " has no canonical constructor.", e);
+            }
+        }
+        Constructor<?>[] constructors = beanClass.getDeclaredConstructors();
+        if (beanClass.isInterface() || beanClass.isPrimitive() || beanClass.isArray() || constructors.length != 1
+                || constructors[0].getParameterCount() == 0 || constructors[0].isSynthetic()) {
+            return null;
+        }
+        return constructors[0];
+    }
+
+    /**
+     * Whether properties of this type can be populated with nested beans.
+     * True for concrete classes with a NoArgs Constructor, which are not part of the JDK.
+     */
+    boolean isNestable() {
+        return nestable;
+    }
+
+    AccessStrategy accessStrategy() {
+        return accessStrategy;
+    }
+
+    /**
+     * All setters of the bean class with the given prefix and exactly one argument.
+     * The setters are only scanned on the first call per prefix.
+     * If a {@link GeneratedPopulator} is present, its setters are used instead of scanning.
+     */
+    List<Setter> setters(String setterPrefix) {
+        return settersByPrefix.computeIfAbsent(setterPrefix, this::scanSetters);
+    }
+
+    /**
+     * All non-static, non-final fields of the bean class and its superclasses, which are written directly.
+     * The fields are only scanned on the first call.
+     *
+     * @see FieldReflectionUtil#getAllFields(Class)
+     */
+    List<Setter> fields() {
+        List<Setter> current = fields;
+        if (current == null) {
+            current = FieldReflectionUtil.getAllFields(beanClass);
+            fields = current;
+        }
+        return current;
+    }
+
+    /**
+     * All public abstract methods of the interface, which are implemented by lazy beans.
+     * The methods are only looked up on the first call.
+     */
+    List<Method> abstractMethods() {
+        List<Method> current = abstractMethods;
+        if (current == null) {
+            current = Arrays.stream(beanClass.getMethods()).filter(m -> Modifier.isAbstract(m.getModifiers())).toList();
+            abstractMethods = current;
+        }
+        return current;
+    }
+
+    /**
+     * The getters of the interface, which are implemented by lazy beans.
+     * The getters are only resolved on the first call.
+     *
+     * @see LazyTemplate#getAllGetters(List)
+     */
+    List<Method> getters() {
+        List<Method> current = getters;
+        if (current == null) {
+            current = LazyTemplate.getAllGetters(abstractMethods());
+            getters = current;
+        }
+        return current;
+    }
+
+    /**
+     * The setters scanned so far per prefix.
+     */
+    Map<String, List<Setter>> scannedSetters() {
+        return Map.copyOf(settersByPrefix);
+    }
+
+    /**
+     * Uses the given setters instead of scanning the bean class for setters with the prefix.
+     * Ignored, if the setters with the prefix are already scanned or the bean has a generated populator.
+     */
+    void restoreSetters(String setterPrefix, List<Method> setters) {
+        if (generatedPopulator == null) {
+            settersByPrefix.computeIfAbsent(setterPrefix, prefix -> setters.stream()
+                    .map(m -> SetterReflectionUtil.toSetter(m, prefix, accessStrategy))
+                    .toList());
+        }
+    }
+
+    /**
+     * Resolves everything needed to make and populate beans with the prefix now instead of on first use.
+     * Beans without any supported constructor are not prepared, they fail when they are made.
+     */
+    void prepare(String setterPrefix) {
+        try {
+            if (populatingConstructor != null) {
+                constructorHandle();
+            } else {
+                setters(setterPrefix);
+                if (instantiator == null) {
+                    instantiator = createInstantiator();
+                }
+            }
+        } catch (IllegalAccessException | NoSuchMethodException e) {
+            //reported again when the bean is made
+        }
+    }
+
+    private List<Setter> scanSetters(String prefix) {
+        PlanBuildEvent event = new PlanBuildEvent();
+        event.begin();
+        List<Setter> setters = generatedPopulator != null
+                ? GeneratedPopulators.setters(generatedPopulator, prefix)
+                : SetterReflectionUtil.getAllSetters(beanClass, prefix, accessStrategy);
+        event.beanClass = beanClass;
+        event.setterPrefix = prefix;
+        event.setterCount = setters.size();
+        event.commit();
+        return setters;
+    }
+
+    /**
+     * Whether the bean is made by passing all values to a constructor instead of populating it by setters.
+     * True for records and for classes without a NoArgs Constructor, which have exactly one constructor.
+     */
+    boolean isPopulatedByConstructor() {
+        return populatingConstructor != null;
+    }
+
+    /**
+     * The parameters of the populating constructor in their order.
+     * The names of record components are always known, the names of other constructor parameters
+     * only if the class is compiled with -parameters, otherwise they are arg0, arg1 etc.
+     */
+    List<Component> components() {
+        if (beanClass.isRecord()) {
+            return Arrays.stream(beanClass.getRecordComponents()).map(c -> new Component(c.getName(), c.getType(), c.getGenericType())).toList();
+        }
+        return Arrays.stream(populatingConstructor.getParameters()).map(p -> new Component(p.getName(), p.getType(), p.getParameterizedType())).toList();
+    }
+
+    /**
+     * The populating constructor bound as (Object[])Object, which takes the values in the order of {@link #components()}.
+     */
+    MethodHandle constructorHandle() throws IllegalAccessException {
+        MethodHandle current = constructorHandle;
+        if (current == null) {
+            current = createConstructorHandle();
+            constructorHandle = current;
+        }
+        return current;
+    }
+
+    private MethodHandle createConstructorHandle() throws IllegalAccessException {
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.publicLookup().unreflectConstructor(populatingConstructor);
+        } catch (IllegalAccessException e) {
+            //the Reflection fallback, unreflect respects the accessible flag
+            populatingConstructor.setAccessible(true);
+            handle = MethodHandles.lookup().unreflectConstructor(populatingConstructor);
+        }
+        int parameterCount = populatingConstructor.getParameterCount();
+        return handle.asSpreader(Object[].class, parameterCount).asType(MethodType.methodType(Object.class, Object[].class));
+    }
+
+    /**
+     * Creates a new instance with the NoArgs Constructor of the bean class.
+     */
+    Object newInstance() throws Throwable {
+        Instantiator current = instantiator;
+        if (current == null) {
+            current = createInstantiator();
+            instantiator = current;
+        }
+        return current.newInstance();
+    }
+
+    private Instantiator createInstantiator() throws NoSuchMethodException {
+        if (generatedPopulator != null) {
+            return generatedPopulator::newInstance;
+        }
+        Constructor<?> constructor = beanClass.getDeclaredConstructor();
+        if (accessStrategy == AccessStrategy.METHOD_HANDLE) {
+            try {
+                MethodHandle handle = MethodHandles.publicLookup().unreflectConstructor(constructor).asType(CONSTRUCTOR_TYPE);
+                return () -> (Object) handle.invokeExact();
+            } catch (IllegalAccessException e) {
+                //the constructor itself is not public
+            }
+        }
+        constructor.trySetAccessible();
+        return () -> {
+            try {
+                return constructor.newInstance();
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    record Component(String name, Class<?> type, Type genericType) {
+    }
+
+    @FunctionalInterface
+    private interface Instantiator {
+        Object newInstance() throws Throwable;
+    }
+}
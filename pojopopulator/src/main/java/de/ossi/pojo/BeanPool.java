@@ -0,0 +1,50 @@
+package de.ossi.pojo;
+
+import lombok.NonNull;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A bounded pool of beans, which are populated again each time they are acquired.
+ * A loop, which releases every bean after using it, makes no new beans once the pool is warmed up,
+ * so only the values created by the suppliers are allocated.
+ * The pool is thread-safe, but a bean must not be used anymore after it was released.
+ *
+ * @see PopulatorTemplate#pool(int)
+ */
+public final class BeanPool<B> {
+
+    private final PopulatorTemplate<B> template;
+    private final BlockingQueue<B> released;
+
+    BeanPool(PopulatorTemplate<B> template, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity of the pool must be positive.");
+        }
+        this.template = template;
+        this.released = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Returns a released bean populated with new values or a new bean, if no bean is released.
+     */
+    public B acquire() {
+        B bean = released.poll();
+        return bean != null ? template.populate(bean) : template.make();
+    }
+
+    /**
+     * Returns the bean to the pool. If the pool is full, the bean is discarded.
+     */
+    public void release(@NonNull B bean) {
+        released.offer(bean);
+    }
+
+    /**
+     * The number of beans, which are released and not yet acquired again.
+     */
+    public int size() {
+        return released.size();
+    }
+}
@@ -0,0 +1,35 @@
+package de.ossi.pojo;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Array;
+
+/**
+ * The constructor of a record or an immutable class together with the suppliers resolved for its parameters.
+ * All values are drawn first and then passed to the constructor at once.
+ *
+ * @param handle   the constructor bound as (Object[])Object
+ * @param sources  the supplier of each parameter or null, if no supplier is resolved
+ * @param defaults the value passed for parameters without supplier, null or the default value of a primitive type
+ */
+record ConstructorBinding(MethodHandle handle, ValueSource[] sources, Object[] defaults) {
+
+    static ConstructorBinding of(MethodHandle handle, Class<?>[] types, ValueSource[] sources) {
+        Object[] defaults = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            defaults[i] = types[i].isPrimitive() ? Array.get(Array.newInstance(types[i], 1), 0) : null;
+        }
+        return new ConstructorBinding(handle, sources, defaults);
+    }
+
+    /**
+     * @param values if not null, the values passed to the constructor are stored in it as well
+     */
+    Object newInstance(GenerationContext context, Object[] values) throws Throwable {
+        Object[] arguments = values != null ? values : new Object[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            ValueSource source = sources[i];
+            arguments[i] = source != null ? source.next(context) : defaults[i];
+        }
+        return (Object) handle.invokeExact(arguments);
+    }
+}
@@ -0,0 +1,145 @@
+package de.ossi.pojo;
+
+import de.ossi.pojo.ValueSource.*;
+
+import java.lang.reflect.Array;
+import java.util.*;
+import java.util.function.IntFunction;
+
+/**
+ * Suppliers of collections, maps and arrays, whose elements are drawn from the supplier resolved for the element type.
+ * The collections are created with the drawn size as capacity, so they are never resized while they are filled.
+ * Primitive arrays are filled by the primitive sources without boxing.
+ */
+final class ContainerSources {
+
+    private static final Map<Class<?>, IntFunction<Collection<Object>>> COLLECTIONS = Map.ofEntries(
+            Map.entry(Iterable.class, ArrayList::new),
+            Map.entry(Collection.class, ArrayList::new),
+            Map.entry(List.class, ArrayList::new),
+            Map.entry(ArrayList.class, ArrayList::new),
+            Map.entry(LinkedList.class, size -> new LinkedList<>()),
+            Map.entry(Set.class, size -> new HashSet<>(hashCapacity(size))),
+            Map.entry(HashSet.class, size -> new HashSet<>(hashCapacity(size))),
+            Map.entry(LinkedHashSet.class, size -> new LinkedHashSet<>(hashCapacity(size))),
+            Map.entry(SortedSet.class, size -> new TreeSet<>()),
+            Map.entry(NavigableSet.class, size -> new TreeSet<>()),
+            Map.entry(TreeSet.class, size -> new TreeSet<>()),
+            Map.entry(Queue.class, ArrayDeque::new),
+            Map.entry(Deque.class, ArrayDeque::new),
+            Map.entry(ArrayDeque.class, ArrayDeque::new));
+    private static final Map<Class<?>, IntFunction<Map<Object, Object>>> MAPS = Map.of(
+            Map.class, size -> new HashMap<>(hashCapacity(size)),
+            HashMap.class, size -> new HashMap<>(hashCapacity(size)),
+            LinkedHashMap.class, size -> new LinkedHashMap<>(hashCapacity(size)),
+            SortedMap.class, size -> new TreeMap<>(),
+            NavigableMap.class, size -> new TreeMap<>(),
+            TreeMap.class, size -> new TreeMap<>());
+
+    private ContainerSources() {
+    }
+
+    static boolean isCollection(Class<?> type) {
+        return COLLECTIONS.containsKey(type);
+    }
+
+    static boolean isMap(Class<?> type) {
+        return MAPS.containsKey(type);
+    }
+
+    /**
+     * Sets and maps contain less elements than the drawn size, if the element supplier repeats values.
+     */
+    static ValueSource collection(Class<?> type, ValueSource element, SizeRange sizes) {
+        IntFunction<Collection<Object>> factory = COLLECTIONS.get(type);
+        return c -> {
+            int size = sizes.next(c);
+            Collection<Object> collection = factory.apply(size);
+            for (int i = 0; i < size; i++) {
+                collection.add(element.next(c));
+            }
+            return collection;
+        };
+    }
+
+    static ValueSource map(Class<?> type, ValueSource key, ValueSource value, SizeRange sizes) {
+        IntFunction<Map<Object, Object>> factory = MAPS.get(type);
+        return c -> {
+            int size = sizes.next(c);
+            Map<Object, Object> map = factory.apply(size);
+            for (int i = 0; i < size; i++) {
+                map.put(key.next(c), value.next(c));
+            }
+            return map;
+        };
+    }
+
+    static ValueSource array(Class<?> componentType, ValueSource element, SizeRange sizes) {
+        if (componentType == int.class && element instanceof IntSource intSource) {
+            return c -> {
+                int[] array = new int[sizes.next(c)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = intSource.nextInt(c);
+                }
+                return array;
+            };
+        }
+        if (componentType == long.class && element instanceof LongSource longSource) {
+            return c -> {
+                long[] array = new long[sizes.next(c)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = longSource.nextLong(c);
+                }
+                return array;
+            };
+        }
+        if (componentType == double.class && element instanceof DoubleSource doubleSource) {
+            return c -> {
+                double[] array = new double[sizes.next(c)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = doubleSource.nextDouble(c);
+                }
+                return array;
+            };
+        }
+        if (componentType == float.class && element instanceof FloatSource floatSource) {
+            return c -> {
+                float[] array = new float[sizes.next(c)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = floatSource.nextFloat(c);
+                }
+                return array;
+            };
+        }
+        if (componentType == boolean.class && element instanceof BooleanSource booleanSource) {
+            return c -> {
+                boolean[] array = new boolean[sizes.next(c)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = booleanSource.nextBoolean(c);
+                }
+                return array;
+            };
+        }
+        if (componentType.isPrimitive()) {
+            //a boxing supplier of a primitive type, the values are unboxed by Array#set
+            return c -> {
+                Object array = Array.newInstance(componentType, sizes.next(c));
+                for (int i = 0; i < Array.getLength(array); i++) {
+                    Array.set(array, i, element.next(c));
+                }
+                return array;
+            };
+        }
+        return c -> {
+            Object[] array = (Object[]) Array.newInstance(componentType, sizes.next(c));
+            for (int i = 0; i < array.length; i++) {
+                array[i] = element.next(c);
+            }
+            return array;
+        };
+    }
+
+    private static int hashCapacity(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+}
@@ -0,0 +1,94 @@
+package de.ossi.pojo;
+
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+import static de.ossi.pojo.PojoPopulator.*;
+import static de.ossi.pojo.ValueSource.*;
+import static java.util.Map.entry;
+
+/**
+ * The default suppliers used if no other supplier is specified for a property type.
+ * Random values are drawn from the generator of the {@link GenerationContext}.
+ *
+ * @param random  if true, the values are randomly generated. Otherwise, constant default values are used.
+ * @param strings the random strings or null, if the strings are {@link PojoPopulator#DEFAULT_STRING}
+ */
+record DefaultValues(boolean random, RandomStrings strings) {
+
+    private static final int DEFAULT_INT = DEFAULT_NUMBER.intValue();
+    private static final long DEFAULT_LONG = DEFAULT_NUMBER.longValue();
+    private static final double DEFAULT_DOUBLE = DEFAULT_NUMBER.doubleValue();
+    private static final float DEFAULT_FLOAT = DEFAULT_NUMBER.floatValue();
+    //the ranges are precomputed, so a random date is one bounded random number plus the creation of the date
+    private static final long FIRST_EPOCH_SECOND = DEFAULT_LOCALDATETIME.toEpochSecond(ZoneOffset.UTC);
+    private static final long SECONDS_TILL_2022 = ChronoUnit.SECONDS.between(DEFAULT_LOCALDATETIME, LOCALDATETIME_2022);
+    private static final long FIRST_EPOCH_DAY = DEFAULT_LOCALDATE.toEpochDay();
+    private static final long DAYS_TILL_2022 = ChronoUnit.DAYS.between(DEFAULT_LOCALDATE, LOCALDATE_2022);
+
+    Map<Type, ValueSource> suppliers() {
+        IntSource intSource = c -> intValue(c.random());
+        LongSource longSource = c -> longValue(c.random());
+        DoubleSource doubleSource = c -> doubleValue(c.random());
+        FloatSource floatSource = c -> floatValue(c.random());
+        BooleanSource booleanSource = c -> booleanValue(c.random());
+        return Map.ofEntries(
+                //the primitive sources populate primitive setters without boxing
+                entry(int.class, intSource),
+                entry(Integer.class, intSource),
+                entry(long.class, longSource),
+                entry(Long.class, longSource),
+                entry(double.class, doubleSource),
+                entry(Double.class, doubleSource),
+                entry(float.class, floatSource),
+                entry(Float.class, floatSource),
+
+                entry(boolean.class, booleanSource),
+                entry(Boolean.class, booleanSource),
+
+                entry(String.class, strings != null ? strings::next : c -> DEFAULT_STRING),
+                entry(LocalDateTime.class, c -> localDateTimeValue(c.random())),
+                entry(LocalDate.class, c -> localDateValue(c.random())));
+    }
+
+    private int intValue(RandomGenerator rnd) {
+        return random ? rnd.nextInt() : DEFAULT_INT;
+    }
+
+    private long longValue(RandomGenerator rnd) {
+        return random ? rnd.nextLong() : DEFAULT_LONG;
+    }
+
+    private double doubleValue(RandomGenerator rnd) {
+        return random ? rnd.nextDouble() : DEFAULT_DOUBLE;
+    }
+
+    private float floatValue(RandomGenerator rnd) {
+        return random ? rnd.nextFloat() : DEFAULT_FLOAT;
+    }
+
+    private boolean booleanValue(RandomGenerator rnd) {
+        return random && rnd.nextBoolean();
+    }
+
+    private LocalDateTime localDateTimeValue(RandomGenerator rnd) {
+        if (random) {
+            return LocalDateTime.ofEpochSecond(FIRST_EPOCH_SECOND + rnd.nextLong(SECONDS_TILL_2022), 0, ZoneOffset.UTC);
+        } else {
+            return DEFAULT_LOCALDATETIME;
+        }
+    }
+
+    private LocalDate localDateValue(RandomGenerator rnd) {
+        if (random) {
+            return LocalDate.ofEpochDay(FIRST_EPOCH_DAY + rnd.nextLong(DAYS_TILL_2022));
+        } else {
+            return DEFAULT_LOCALDATE;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package de.ossi.pojo;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A newline-delimited UTF-8 word list, e.g. of names or cities, which is memory-mapped instead of loaded into the heap.
+ * Only the offsets of the lines are indexed once, a line is decoded from the mapped file straight to a String when it is sampled.
+ * Dictionaries are cached per file, so all populators and threads share the mapping and the index.
+ * A file, whose size or modification time changed, is mapped again for the next populator, but existing templates keep the old mapping.
+ * Truncating a file while its mapping is used makes the access fail with an {@link InternalError},
+ * so dictionaries must not be changed while beans are generated from them.
+ */
+final class Dictionary implements ValueSource {
+
+    private static final Map<Path, Dictionary> DICTIONARIES = new ConcurrentHashMap<>();
+
+    private final Path path;
+    private final FileTime lastModified;
+    //read only by absolute gets and slices, so it is safe to share between threads
+    private final MappedByteBuffer buffer;
+    //the line i consists of the bytes from lineStarts[i], inclusive, to lineEnds[i], exclusive, without the line break
+    private final int[] lineStarts;
+    private final int[] lineEnds;
+
+    private Dictionary(Path path, FileTime lastModified, MappedByteBuffer buffer, int[] lineStarts, int[] lineEnds) {
+        this.path = path;
+        this.lastModified = lastModified;
+        this.buffer = buffer;
+        this.lineStarts = lineStarts;
+        this.lineEnds = lineEnds;
+    }
+
+    /**
+     * Returns the cached dictionary of the file or maps and indexes the file, if it is not cached or changed since.
+     *
+     * @throws UncheckedIOException     if the file can't be read
+     * @throws IllegalArgumentException if the file has no lines or is larger than 2 GB
+     */
+    static Dictionary of(Path path) {
+        return DICTIONARIES.compute(path.toAbsolutePath().normalize(), (p, cached) -> cached != null && cached.isUnchanged() ? cached : load(p));
+    }
+
+    private boolean isUnchanged() {
+        try {
+            return Files.size(path) == buffer.capacity() && Files.getLastModifiedTime(path).equals(lastModified);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static Dictionary load(Path path) {
+        try (FileChannel channel = FileChannel.open(path)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("The dictionary " + path + " is larger than 2 GB.");
+            }
+            FileTime lastModified = Files.getLastModifiedTime(path);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return index(path, lastModified, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("The dictionary " + path + " can not be read.", e);
+        }
+    }
+
+    /**
+     * Finds the starts and ends of all non-empty lines. The mapping stays valid after the channel is closed.
+     */
+    private static Dictionary index(Path path, FileTime lastModified, MappedByteBuffer buffer) {
+        int[] lineStarts = new int[1024];
+        int[] lineEnds = new int[1024];
+        int count = 0;
+        int limit = buffer.limit();
+        int start = 0;
+        for (int i = 0; i <= limit; i++) {
+            if (i == limit || buffer.get(i) == '\n') {
+                int end = lineEnd(buffer, start, i);
+                if (end > start) {
+                    if (count == lineStarts.length) {
+                        lineStarts = Arrays.copyOf(lineStarts, count * 2);
+                        lineEnds = Arrays.copyOf(lineEnds, count * 2);
+                    }
+                    lineStarts[count] = start;
+                    lineEnds[count++] = end;
+                }
+                start = i + 1;
+            }
+        }
+        if (count == 0) {
+            throw new IllegalArgumentException("The dictionary " + path + " has no lines.");
+        }
+        return new Dictionary(path, lastModified, buffer, Arrays.copyOf(lineStarts, count), Arrays.copyOf(lineEnds, count));
+    }
+
+    /**
+     * Excludes the carriage return of Windows line endings.
+     */
+    private static int lineEnd(MappedByteBuffer buffer, int start, int newline) {
+        return newline > start && buffer.get(newline - 1) == '\r' ? newline - 1 : newline;
+    }
+
+    int size() {
+        return lineStarts.length;
+    }
+
+    String get(int index) {
+        return StandardCharsets.UTF_8.decode(line(index)).toString();
+    }
+
+    /**
+     * Like {@link #get(int)}, but decodes into the reusable buffer of the context, so the only allocation is the String.
+     * A line of UTF-8 never has more chars than bytes.
+     */
+    String get(int index, GenerationContext context) {
+        int length = lineEnds[index] - lineStarts[index];
+        char[] chars = context.charBuffer(length);
+        CharBuffer out = CharBuffer.wrap(chars, 0, length);
+        CharsetDecoder decoder = context.utf8Decoder();
+        decoder.reset().decode(line(index), out, true);
+        decoder.flush(out);
+        return new String(chars, 0, out.position());
+    }
+
+    private MappedByteBuffer line(int index) {
+        return buffer.slice(lineStarts[index], lineEnds[index] - lineStarts[index]);
+    }
+
+    @Override
+    public Object next(GenerationContext context) {
+        return get(context.random().nextInt(lineStarts.length), context);
+    }
+
+    @Override
+    public String toString() {
+        return "Dictionary{" + path + ", " + lineStarts.length + " lines}";
+    }
+}
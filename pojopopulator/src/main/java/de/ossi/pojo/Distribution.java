@@ -0,0 +1,176 @@
+package de.ossi.pojo;
+
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Skewed distribution of values, e.g. to reproduce the hot keys of production data.
+ * The weights are precomputed into an alias table (Vose's method), so a sample costs two random numbers regardless of the number of values.
+ * The distribution is immutable and can be shared between threads and populators.
+ * Used as supplier by {@link PojoPopulator#withValue(String, Distribution)}, the samples are drawn from the generator
+ * of the populator, so they are reproducible with {@link PojoPopulator#usingSeed(long)}.
+ *
+ * @param <T> the type of the values
+ */
+public final class Distribution<T> {
+
+    private final double[] probabilities;
+    private final int[] aliases;
+    private final ValueAt<T> valueAt;
+
+    private Distribution(double[] weights, ValueAt<T> valueAt) {
+        this.valueAt = valueAt;
+        this.probabilities = new double[weights.length];
+        this.aliases = new int[weights.length];
+        buildAliasTable(weights);
+    }
+
+    /**
+     * Zipf distribution of the ranks 1 to n, where the probability of rank k is proportional to 1/k^exponent.
+     *
+     * @param n        the number of ranks, at least 1
+     * @param exponent the skew, 0 is uniform and about 1 is typical for the popularity of keys
+     */
+    public static Distribution<Integer> zipf(int n, double exponent) {
+        return new Distribution<>(zipfWeights(n, exponent), (index, random) -> index + 1);
+    }
+
+    /**
+     * Zipf distribution of the values, where the first value is the most frequent one.
+     *
+     * @see #zipf(int, double)
+     */
+    public static <T> Distribution<T> zipf(@NonNull List<? extends T> values, double exponent) {
+        List<T> copy = List.copyOf(values);
+        return new Distribution<>(zipfWeights(copy.size(), exponent), (index, random) -> copy.get(index));
+    }
+
+    /**
+     * Chooses the values, e.g. the constants of an enum, with probabilities proportional to their weights.
+     * The samples are only reproducible with a seed, if the iteration order of the map is, e.g. of an {@link java.util.EnumMap}
+     * or {@link java.util.LinkedHashMap}, but not of {@link Map#of()}.
+     */
+    public static <T> Distribution<T> weighted(@NonNull Map<? extends T, ? extends Number> weights) {
+        List<T> values = new ArrayList<>(weights.size());
+        double[] doubleWeights = new double[weights.size()];
+        weights.forEach((value, weight) -> {
+            doubleWeights[values.size()] = weight.doubleValue();
+            values.add(value);
+        });
+        return new Distribution<>(doubleWeights, (index, random) -> values.get(index));
+    }
+
+    /**
+     * Empirical distribution of numbers given by a histogram, e.g. measured in production.
+     * A bucket is chosen proportional to its count and the value is uniformly distributed within the bucket.
+     *
+     * @param bounds the ascending bounds of the buckets, bucket i ranges from bounds[i] inclusive to bounds[i + 1] exclusive
+     * @param counts the count of each bucket, one less than the bounds
+     */
+    public static Distribution<Double> histogram(@NonNull double[] bounds, @NonNull long[] counts) {
+        if (bounds.length != counts.length + 1) {
+            throw new IllegalArgumentException("There must be one bound more than counts.");
+        }
+        double[] copy = bounds.clone();
+        double[] weights = new double[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            if (!(copy[i] < copy[i + 1])) {
+                throw new IllegalArgumentException("The bounds must be ascending.");
+            }
+            weights[i] = counts[i];
+        }
+        return new Distribution<>(weights, (index, random) -> random.nextDouble(copy[index], copy[index + 1]));
+    }
+
+    private static double[] zipfWeights(int n, double exponent) {
+        if (n < 1) {
+            throw new IllegalArgumentException("The number of ranks must be at least 1, but was " + n + ".");
+        }
+        if (exponent < 0 || !Double.isFinite(exponent)) {
+            throw new IllegalArgumentException("The exponent must not be negative.");
+        }
+        double[] weights = new double[n];
+        for (int rank = 1; rank <= n; rank++) {
+            weights[rank - 1] = 1 / Math.pow(rank, exponent);
+        }
+        return weights;
+    }
+
+    /**
+     * Every column of the table is split between its own value and one alias,
+     * so a sample chooses a column uniformly and then one of its two values.
+     */
+    private void buildAliasTable(double[] weights) {
+        int n = weights.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("The distribution must have at least one value.");
+        }
+        double sum = 0;
+        for (double weight : weights) {
+            if (weight < 0 || !Double.isFinite(weight)) {
+                throw new IllegalArgumentException("The weights must not be negative.");
+            }
+            sum += weight;
+        }
+        if (sum <= 0) {
+            throw new IllegalArgumentException("The sum of the weights must be positive.");
+        }
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / sum;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probabilities[less] = scaled[less];
+            aliases[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        //the remaining columns are full, apart from rounding errors
+        while (largeCount > 0) {
+            probabilities[large[--largeCount]] = 1;
+        }
+        while (smallCount > 0) {
+            probabilities[small[--smallCount]] = 1;
+        }
+    }
+
+    /**
+     * Draws the next value.
+     */
+    public T sample(@NonNull RandomGenerator random) {
+        int column = random.nextInt(probabilities.length);
+        int index = random.nextDouble() < probabilities[column] ? column : aliases[column];
+        return valueAt.value(index, random);
+    }
+
+    /**
+     * The number of distinct values or buckets.
+     */
+    public int size() {
+        return probabilities.length;
+    }
+
+    @FunctionalInterface
+    private interface ValueAt<T> {
+        T value(int index, RandomGenerator random);
+    }
+}
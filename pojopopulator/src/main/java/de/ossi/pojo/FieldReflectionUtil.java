@@ -0,0 +1,59 @@
+package de.ossi.pojo;
+
+import de.ossi.pojo.SetterReflectionUtil.Setter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Finds the fields of a bean to write them directly instead of calling setters.
+ */
+final class FieldReflectionUtil {
+
+    private FieldReflectionUtil() {
+    }
+
+    /**
+     * Scans the declared fields of the bean class and all its superclasses, including private ones.
+     * Static and final fields are skipped. If a field hides a field of a superclass, only the field of the subclass is populated.
+     * Every field is bound to a {@link VarHandle}, which is adapted to a setter handle (Object, type)void,
+     * so the fields are populated by the same bindings as setters. Classes whose package is not open to this library,
+     * e.g. the ones of the JDK, are skipped.
+     */
+    static List<Setter> getAllFields(Class<?> beanClass) {
+        List<Setter> fields = new ArrayList<>();
+        Set<String> propertyNames = new HashSet<>();
+        for (Class<?> type = beanClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            MethodHandles.Lookup lookup;
+            try {
+                lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            } catch (IllegalAccessException e) {
+                continue;
+            }
+            for (Field field : type.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers) && !field.isSynthetic() && propertyNames.add(field.getName())) {
+                    fields.add(new Setter(field.getType(), field.getGenericType(), null, field.getName(), bind(lookup, field)));
+                }
+            }
+        }
+        return List.copyOf(fields);
+    }
+
+    private static MethodHandle bind(MethodHandles.Lookup lookup, Field field) {
+        try {
+            MethodType setterType = MethodType.methodType(void.class, Object.class, field.getType());
+            return lookup.unreflectVarHandle(field).toMethodHandle(VarHandle.AccessMode.SET).asType(setterType);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("The field " + field + " can not be accessed, although its class is open.", e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package de.ossi.pojo;
+
+/**
+ * The file formats supported by the {@link FixtureWriter}.
+ */
+public enum FixtureFormat {
+    /**
+     * Newline delimited JSON, one object per bean with the property names as keys.
+     */
+    NDJSON,
+    /**
+     * Comma separated values according to RFC 4180, with a header line of the property names.
+     */
+    CSV
+}
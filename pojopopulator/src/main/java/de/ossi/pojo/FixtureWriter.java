@@ -0,0 +1,258 @@
+package de.ossi.pojo;
+
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Generates populated beans straight into a fixture file.
+ * Every bean is encoded as soon as it is populated and then discarded, so only one row and a buffer of the
+ * flush size are held in memory, regardless of the number of beans.
+ * Numbers and booleans are written as such, arrays like their {@link List} and all other values by their {@link Object#toString()}.
+ *
+ * @see PopulatorTemplate#writer(FixtureFormat)
+ */
+public final class FixtureWriter<B> {
+
+    public static final int DEFAULT_FLUSH_SIZE = 64 * 1024;
+    //an encoded char needs at most 4 bytes, so a smaller buffer could never be filled
+    private static final int MIN_FLUSH_SIZE = 16;
+
+    private final PopulatorTemplate<B> template;
+    private final FixtureFormat format;
+
+    private boolean usingGzip = false;
+    private int flushSize = DEFAULT_FLUSH_SIZE;
+
+    FixtureWriter(PopulatorTemplate<B> template, FixtureFormat format) {
+        this.template = template;
+        this.format = format;
+    }
+
+    /**
+     * Sets the option to compress the file with gzip.
+     */
+    public FixtureWriter<B> usingGzip() {
+        this.usingGzip = true;
+        return this;
+    }
+
+    /**
+     * Sets the number of bytes, which are buffered before they are written to the file.
+     */
+    public FixtureWriter<B> withFlushSize(int flushSize) {
+        if (flushSize < MIN_FLUSH_SIZE) {
+            throw new IllegalArgumentException("The flush size must be at least " + MIN_FLUSH_SIZE + " bytes.");
+        }
+        this.flushSize = flushSize;
+        return this;
+    }
+
+    /**
+     * Generates the given number of beans and writes them to the file, which is created or truncated.
+     *
+     * @return the number of beans written
+     */
+    public long write(@NonNull Path path, long count) throws IOException {
+        if (count < 0) {
+            throw new IllegalArgumentException("The count can not be negative.");
+        }
+        List<String> propertyNames = template.propertyNames();
+        Object[] values = new Object[propertyNames.size()];
+        GenerationContext context = template.context();
+        try (FileChannel fileChannel = FileChannel.open(path, CREATE, TRUNCATE_EXISTING, WRITE);
+             WritableByteChannel channel = usingGzip
+                     ? Channels.newChannel(new GZIPOutputStream(Channels.newOutputStream(fileChannel), flushSize))
+                     : fileChannel) {
+            Encoder encoder = new Encoder(channel, usingGzip ? ByteBuffer.allocate(flushSize) : ByteBuffer.allocateDirect(flushSize));
+            StringBuilder row = new StringBuilder();
+            if (format == FixtureFormat.CSV) {
+                appendCsvHeader(row, propertyNames);
+                encoder.encode(row);
+            }
+            String[] jsonKeys = jsonKeys(propertyNames);
+            for (long i = 0; i < count; i++) {
+                template.make(context, values);
+                row.setLength(0);
+                if (format == FixtureFormat.CSV) {
+                    appendCsvRow(row, values);
+                } else {
+                    appendJsonRow(row, jsonKeys, values);
+                }
+                encoder.encode(row);
+            }
+            encoder.finish();
+        }
+        return count;
+    }
+
+    /**
+     * The keys are escaped once, including the separators, e.g. {"firstname": and ,"lastname":
+     */
+    private static String[] jsonKeys(List<String> propertyNames) {
+        String[] keys = new String[propertyNames.size()];
+        for (int i = 0; i < keys.length; i++) {
+            StringBuilder key = new StringBuilder(i == 0 ? "{" : ",");
+            appendJsonString(key, propertyNames.get(i));
+            keys[i] = key.append(':').toString();
+        }
+        return keys;
+    }
+
+    private static void appendJsonRow(StringBuilder row, String[] keys, Object[] values) {
+        if (keys.length == 0) {
+            row.append('{');
+        }
+        for (int i = 0; i < keys.length; i++) {
+            row.append(keys[i]);
+            Object value = values[i];
+            if (value == null) {
+                row.append("null");
+            } else if (isPlainNumberOrBoolean(value)) {
+                row.append(value);
+            } else {
+                appendJsonString(row, toText(value));
+            }
+        }
+        row.append("}\n");
+    }
+
+    private static String toText(Object value) {
+        if (value.getClass().isArray()) {
+            String text = Arrays.deepToString(new Object[]{value});
+            //without the brackets of the wrapping array
+            return text.substring(1, text.length() - 1);
+        }
+        return value.toString();
+    }
+
+    private static boolean isPlainNumberOrBoolean(Object value) {
+        if (value instanceof Double d) {
+            return Double.isFinite(d);
+        }
+        if (value instanceof Float f) {
+            return Float.isFinite(f);
+        }
+        return value instanceof Number || value instanceof Boolean;
+    }
+
+    private static void appendJsonString(StringBuilder row, String value) {
+        row.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> row.append("\\\"");
+                case '\\' -> row.append("\\\\");
+                case '\n' -> row.append("\\n");
+                case '\r' -> row.append("\\r");
+                case '\t' -> row.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        row.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        row.append(c);
+                    }
+                }
+            }
+        }
+        row.append('"');
+    }
+
+    private static void appendCsvHeader(StringBuilder row, List<String> propertyNames) {
+        for (int i = 0; i < propertyNames.size(); i++) {
+            if (i > 0) {
+                row.append(',');
+            }
+            appendCsvValue(row, propertyNames.get(i));
+        }
+        row.append("\r\n");
+    }
+
+    private static void appendCsvRow(StringBuilder row, Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                row.append(',');
+            }
+            //null is written as empty field
+            if (values[i] != null) {
+                appendCsvValue(row, toText(values[i]));
+            }
+        }
+        row.append("\r\n");
+    }
+
+    private static void appendCsvValue(StringBuilder row, String value) {
+        boolean quoted = value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quoted) {
+            row.append(value);
+            return;
+        }
+        row.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                row.append('"');
+            }
+            row.append(c);
+        }
+        row.append('"');
+    }
+
+    /**
+     * Encodes the rows as UTF-8 into the buffer and writes the buffer to the channel, whenever it is full.
+     */
+    private static final class Encoder {
+        private final CharsetEncoder charsetEncoder = StandardCharsets.UTF_8.newEncoder();
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer;
+
+        private Encoder(WritableByteChannel channel, ByteBuffer buffer) {
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        void encode(CharSequence row) throws IOException {
+            CharBuffer chars = CharBuffer.wrap(row);
+            while (true) {
+                CoderResult result = charsetEncoder.encode(chars, buffer, false);
+                if (result.isOverflow()) {
+                    flush();
+                } else if (result.isUnderflow()) {
+                    return;
+                } else {
+                    result.throwException();
+                }
+            }
+        }
+
+        void finish() throws IOException {
+            charsetEncoder.encode(CharBuffer.allocate(0), buffer, true);
+            while (charsetEncoder.flush(buffer).isOverflow()) {
+                flush();
+            }
+            flush();
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
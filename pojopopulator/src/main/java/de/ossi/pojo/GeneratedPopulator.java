@@ -0,0 +1,84 @@
+package de.ossi.pojo;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Populator generated at compile time for a bean annotated with {@link Populatable}.
+ * The implementations call the constructor and the setters directly and are registered as service,
+ * so {@link PojoPopulator} uses them instead of discovering the setters per Reflection.
+ *
+ * @see java.util.ServiceLoader
+ */
+public interface GeneratedPopulator<B> {
+
+    Class<B> beanClass();
+
+    B newInstance();
+
+    /**
+     * All public methods of the bean with exactly one argument, regardless of their prefix.
+     */
+    List<GeneratedSetter<B>> setters();
+
+    /**
+     * Use the factory methods to create the setters, so the writer matches the type.
+     *
+     * @param methodName the name of the setter method, used to apply the setter prefix
+     * @param type       the erased type of the argument
+     * @param writer     calls the setter with the value. An {@link IntWriter}, {@link LongWriter}, {@link DoubleWriter},
+     *                   {@link FloatWriter} or {@link BooleanWriter} for the matching primitive type, so the value isn't boxed.
+     *                   Otherwise, a {@link BiConsumer}, which gets an instance of the type or its wrapper.
+     */
+    record GeneratedSetter<B>(String methodName, Class<?> type, Object writer) {
+
+        public static <B> GeneratedSetter<B> of(String methodName, Class<?> type, BiConsumer<B, Object> writer) {
+            return new GeneratedSetter<>(methodName, type, writer);
+        }
+
+        public static <B> GeneratedSetter<B> ofInt(String methodName, IntWriter<B> writer) {
+            return new GeneratedSetter<>(methodName, int.class, writer);
+        }
+
+        public static <B> GeneratedSetter<B> ofLong(String methodName, LongWriter<B> writer) {
+            return new GeneratedSetter<>(methodName, long.class, writer);
+        }
+
+        public static <B> GeneratedSetter<B> ofDouble(String methodName, DoubleWriter<B> writer) {
+            return new GeneratedSetter<>(methodName, double.class, writer);
+        }
+
+        public static <B> GeneratedSetter<B> ofFloat(String methodName, FloatWriter<B> writer) {
+            return new GeneratedSetter<>(methodName, float.class, writer);
+        }
+
+        public static <B> GeneratedSetter<B> ofBoolean(String methodName, BooleanWriter<B> writer) {
+            return new GeneratedSetter<>(methodName, boolean.class, writer);
+        }
+    }
+
+    @FunctionalInterface
+    interface IntWriter<B> {
+        void write(B bean, int value);
+    }
+
+    @FunctionalInterface
+    interface LongWriter<B> {
+        void write(B bean, long value);
+    }
+
+    @FunctionalInterface
+    interface DoubleWriter<B> {
+        void write(B bean, double value);
+    }
+
+    @FunctionalInterface
+    interface FloatWriter<B> {
+        void write(B bean, float value);
+    }
+
+    @FunctionalInterface
+    interface BooleanWriter<B> {
+        void write(B bean, boolean value);
+    }
+}
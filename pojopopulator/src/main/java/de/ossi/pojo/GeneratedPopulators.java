@@ -0,0 +1,83 @@
+package de.ossi.pojo;
+
+import de.ossi.pojo.GeneratedPopulator.*;
+import de.ossi.pojo.SetterReflectionUtil.Setter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.function.BiConsumer;
+
+/**
+ * Registry of all {@link GeneratedPopulator}s found by the {@link ServiceLoader} of the thread context class loader.
+ * The services are loaded once on first use.
+ */
+final class GeneratedPopulators {
+
+    private static final Map<Class<?>, MethodHandle> WRITERS = Map.of(
+            int.class, write(IntWriter.class, int.class),
+            long.class, write(LongWriter.class, long.class),
+            double.class, write(DoubleWriter.class, double.class),
+            float.class, write(FloatWriter.class, float.class),
+            boolean.class, write(BooleanWriter.class, boolean.class));
+    private static final MethodHandle ACCEPT = findWriter(BiConsumer.class, "accept", Object.class);
+
+    private static MethodHandle write(Class<?> writerClass, Class<?> type) {
+        return findWriter(writerClass, "write", type);
+    }
+
+    private static MethodHandle findWriter(Class<?> writerClass, String name, Class<?> type) {
+        try {
+            return MethodHandles.publicLookup().findVirtual(writerClass, name, MethodType.methodType(void.class, Object.class, type));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private GeneratedPopulators() {
+    }
+
+    static GeneratedPopulator<?> find(Class<?> beanClass) {
+        return Holder.BY_BEAN_CLASS.get(beanClass);
+    }
+
+    /**
+     * The generated setters with the given prefix, bound like the setters found per Reflection.
+     * The {@link Setter#setter()} method is null, because it is never looked up.
+     * The type arguments of the setters are unknown, so collections of generated beans are only populated by explicit suppliers.
+     */
+    static List<Setter> setters(GeneratedPopulator<?> populator, String setterPrefix) {
+        return populator.setters().stream()
+                .filter(s -> s.methodName().startsWith(setterPrefix))
+                .map(s -> new Setter(s.type(), s.type(), null, SetterReflectionUtil.toPropertyName(s.methodName(), setterPrefix), bind(s)))
+                .toList();
+    }
+
+    /**
+     * Primitive writers are bound with their primitive type, so the specialized {@link PropertyBinding}s don't box the values.
+     */
+    private static MethodHandle bind(GeneratedSetter<?> setter) {
+        MethodHandle writer = WRITERS.get(setter.type());
+        if (writer == null || !writer.type().parameterType(0).isInstance(setter.writer())) {
+            writer = ACCEPT;
+        }
+        return writer.bindTo(setter.writer()).asType(MethodType.methodType(void.class, Object.class, setter.type()));
+    }
+
+    private static final class Holder {
+        private static final Map<Class<?>, GeneratedPopulator<?>> BY_BEAN_CLASS = load();
+
+        @SuppressWarnings("rawtypes")
+        private static Map<Class<?>, GeneratedPopulator<?>> load() {
+            Map<Class<?>, GeneratedPopulator<?>> populators = new HashMap<>();
+            for (GeneratedPopulator populator : ServiceLoader.load(GeneratedPopulator.class)) {
+                populators.put(populator.beanClass(), populator);
+            }
+            return Map.copyOf(populators);
+        }
+    }
+}
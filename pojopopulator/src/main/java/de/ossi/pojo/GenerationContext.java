@@ -0,0 +1,63 @@
+package de.ossi.pojo;
+
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.random.RandomGenerator;
+
+/**
+ * State used while generating beans, which is confined to one thread or one chunk of a parallel generation.
+ */
+final class GenerationContext {
+
+    private final RandomGenerator random;
+    //null, if the shared instances of the templates are used
+    private final SharedInstances.Scope sharedScope;
+    private char[] charBuffer = new char[0];
+    //created lazily, because only dictionaries decode values
+    private CharsetDecoder utf8Decoder;
+
+    GenerationContext(RandomGenerator random) {
+        this(random, null);
+    }
+
+    GenerationContext(RandomGenerator random, SharedInstances.Scope sharedScope) {
+        this.random = random;
+        this.sharedScope = sharedScope;
+    }
+
+    RandomGenerator random() {
+        return random;
+    }
+
+    /**
+     * The shared instances of a parallel generation or null.
+     */
+    SharedInstances.Scope sharedScope() {
+        return sharedScope;
+    }
+
+    /**
+     * A buffer of at least the given length, which is reused by all values generated with this context.
+     * Its content is only valid until the next call.
+     */
+    char[] charBuffer(int length) {
+        if (charBuffer.length < length) {
+            charBuffer = new char[length];
+        }
+        return charBuffer;
+    }
+
+    /**
+     * A UTF-8 decoder, which is reused by all values generated with this context.
+     * Malformed input is replaced like by {@link String#String(byte[], java.nio.charset.Charset)}.
+     */
+    CharsetDecoder utf8Decoder() {
+        if (utf8Decoder == null) {
+            utf8Decoder = StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+        return utf8Decoder;
+    }
+}
@@ -0,0 +1,137 @@
+package de.ossi.pojo;
+
+import lombok.NonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics, which count the events and record their latencies in histograms per bean class and property.
+ * The histograms have one bucket per power of two nanoseconds, so recording is lock-free and the memory is constant.
+ */
+public final class HistogramMetrics implements PopulatorMetrics {
+
+    private final LongAdder planHits = new LongAdder();
+    private final LongAdder planMisses = new LongAdder();
+    private final Map<Class<?>, Histogram> instantiations = new ConcurrentHashMap<>();
+    private final Map<PropertyKey, Histogram> suppliers = new ConcurrentHashMap<>();
+    private final Map<PropertyKey, Histogram> properties = new ConcurrentHashMap<>();
+
+    @Override
+    public void planLookup(Class<?> beanClass, boolean hit) {
+        (hit ? planHits : planMisses).increment();
+    }
+
+    @Override
+    public void instantiated(Class<?> beanClass, long nanos) {
+        instantiations.computeIfAbsent(beanClass, c -> new Histogram()).record(nanos);
+    }
+
+    @Override
+    public void supplied(Class<?> beanClass, String propertyName, long nanos) {
+        suppliers.computeIfAbsent(new PropertyKey(beanClass, propertyName), k -> new Histogram()).record(nanos);
+    }
+
+    @Override
+    public void populated(Class<?> beanClass, String propertyName, long nanos) {
+        properties.computeIfAbsent(new PropertyKey(beanClass, propertyName), k -> new Histogram()).record(nanos);
+    }
+
+    public long planHits() {
+        return planHits.sum();
+    }
+
+    public long planMisses() {
+        return planMisses.sum();
+    }
+
+    /**
+     * The latencies of the constructor of the bean class.
+     */
+    public Histogram instantiation(@NonNull Class<?> beanClass) {
+        return instantiations.getOrDefault(beanClass, Histogram.EMPTY);
+    }
+
+    /**
+     * The latencies of the supplier of the property.
+     */
+    public Histogram supplier(@NonNull Class<?> beanClass, @NonNull String propertyName) {
+        return suppliers.getOrDefault(new PropertyKey(beanClass, propertyName), Histogram.EMPTY);
+    }
+
+    /**
+     * The latencies of the supplier and the setter of the property together.
+     */
+    public Histogram property(@NonNull Class<?> beanClass, @NonNull String propertyName) {
+        return properties.getOrDefault(new PropertyKey(beanClass, propertyName), Histogram.EMPTY);
+    }
+
+    private record PropertyKey(Class<?> beanClass, String propertyName) {
+    }
+
+    /**
+     * Latency histogram with buckets of powers of two. Percentiles are the upper bound of their bucket.
+     */
+    public static final class Histogram {
+
+        private static final Histogram EMPTY = new Histogram();
+
+        private final LongAdder[] buckets = new LongAdder[Long.SIZE];
+        private final LongAdder totalNanos = new LongAdder();
+
+        private Histogram() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        private void record(long nanos) {
+            //bucket i contains the latencies below 2^i nanoseconds
+            buckets[Long.SIZE - Long.numberOfLeadingZeros(Math.max(nanos, 0))].increment();
+            totalNanos.add(nanos);
+        }
+
+        public long count() {
+            long count = 0;
+            for (LongAdder bucket : buckets) {
+                count += bucket.sum();
+            }
+            return count;
+        }
+
+        public long totalNanos() {
+            return totalNanos.sum();
+        }
+
+        public double meanNanos() {
+            long count = count();
+            return count == 0 ? 0 : (double) totalNanos() / count;
+        }
+
+        /**
+         * @param percentile between 0 and 100
+         * @return the upper bound of the bucket containing the percentile or 0, if nothing is recorded
+         */
+        public long percentileNanos(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("The percentile must be between 0 and 100.");
+            }
+            long[] counts = new long[buckets.length];
+            long count = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                counts[i] = buckets[i].sum();
+                count += counts[i];
+            }
+            long rank = (long) Math.ceil(count * percentile / 100);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (count > 0 && seen >= Math.max(rank, 1)) {
+                    return i == Long.SIZE - 1 ? Long.MAX_VALUE : 1L << i;
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package de.ossi.pojo;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.*;
+
+/**
+ * Immutable options of a {@link PojoPopulator}, which are resolved against the getters of an interface.
+ * Can be shared between threads to create any number of lazy beans implementing the interface.
+ * A getter of a lazy bean invokes its supplier on first access and returns the same value afterwards,
+ * so the cost of a bean depends on the number of properties read instead of the number of properties declared.
+ * Setters of the interface matching a getter overwrite the value.
+ * The suppliers are resolved once per template, a lazy bean only holds its values.
+ *
+ * @see PojoPopulator#lazyTemplate(Class, java.util.function.Consumer)
+ */
+public final class LazyTemplate<T> {
+
+    private final Class<T> interfaceClass;
+    private final Map<Method, Integer> getterIndexes = new HashMap<>();
+    private final Map<Method, Integer> setterIndexes = new HashMap<>();
+    private final String[] propertyNames;
+    //suppliers[i] is null, if no supplier is resolved for the property. Then the default value of its type is returned.
+    private final ValueSource[] suppliers;
+    private final Object[] defaultValues;
+    private final RandomEngine randomEngine;
+    private final ThreadLocal<GenerationContext> contexts = ThreadLocal.withInitial(this::newContext);
+
+    LazyTemplate(Class<T> interfaceClass, List<Method> abstractMethods, List<Method> getters, ValueSource[] suppliers, String setterPrefix,
+                 RandomEngine randomEngine) {
+        this.interfaceClass = interfaceClass;
+        this.suppliers = suppliers;
+        this.randomEngine = randomEngine;
+        this.propertyNames = new String[getters.size()];
+        this.defaultValues = new Object[getters.size()];
+        Map<String, Integer> propertyIndexes = new HashMap<>();
+        for (int i = 0; i < getters.size(); i++) {
+            Method getter = getters.get(i);
+            propertyNames[i] = toPropertyName(getter);
+            defaultValues[i] = getter.getReturnType().isPrimitive() ? Array.get(Array.newInstance(getter.getReturnType(), 1), 0) : null;
+            getterIndexes.put(getter, i);
+            propertyIndexes.put(propertyNames[i], i);
+        }
+        for (Method method : abstractMethods) {
+            if (method.getParameterCount() == 1 && method.getName().length() > setterPrefix.length()
+                    && method.getName().startsWith(setterPrefix)) {
+                Integer index = propertyIndexes.get(SetterReflectionUtil.toPropertyName(method.getName(), setterPrefix));
+                if (index != null) {
+                    setterIndexes.put(method, index);
+                }
+            }
+        }
+    }
+
+    /**
+     * The abstract methods without arguments, whose name starts with get or with is for boolean properties.
+     */
+    static List<Method> getAllGetters(List<Method> abstractMethods) {
+        return abstractMethods.stream()
+                .filter(m -> m.getParameterCount() == 0 && m.getReturnType() != void.class)
+                .filter(m -> getterPrefix(m) != null)
+                .toList();
+    }
+
+    static String toPropertyName(Method getter) {
+        return SetterReflectionUtil.toPropertyName(getter.getName(), getterPrefix(getter));
+    }
+
+    private static String getterPrefix(Method method) {
+        String name = method.getName();
+        if (name.length() > 3 && name.startsWith("get")) {
+            return "get";
+        }
+        boolean isBoolean = method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class;
+        if (isBoolean && name.length() > 2 && name.startsWith("is")) {
+            return "is";
+        }
+        return null;
+    }
+
+    private GenerationContext newContext() {
+        return new GenerationContext(randomEngine.nextGenerator());
+    }
+
+    /**
+     * Creates a new lazy bean. Its getters invoke their suppliers on first access only.
+     *
+     * @see PojoPopulator#makeLazy()
+     */
+    public T make() {
+        return interfaceClass.cast(Proxy.newProxyInstance(interfaceClass.getClassLoader(), new Class<?>[]{interfaceClass}, new LazyBean()));
+    }
+
+    /**
+     * The values of one lazy bean. Like a plain bean it is not thread-safe.
+     */
+    private final class LazyBean implements InvocationHandler {
+        private final Object[] values = new Object[propertyNames.length];
+        private final boolean[] resolved = new boolean[propertyNames.length];
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Integer index = getterIndexes.get(method);
+            if (index != null) {
+                return get(index);
+            }
+            index = setterIndexes.get(method);
+            if (index != null) {
+                values[index] = args[0];
+                resolved[index] = true;
+                return null;
+            }
+            if (method.isDefault()) {
+                return InvocationHandler.invokeDefault(proxy, method, args);
+            }
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> toString();
+                };
+            }
+            throw new UnsupportedOperationException(method.getName() + " is neither a getter nor a setter of " + interfaceClass.getName());
+        }
+
+        private Object get(int index) {
+            if (!resolved[index]) {
+                ValueSource supplier = suppliers[index];
+                values[index] = supplier != null ? supplier.next(contexts.get()) : defaultValues[index];
+                resolved[index] = true;
+            }
+            return values[index];
+        }
+
+        /**
+         * Only contains the properties, which are already resolved.
+         */
+        @Override
+        public String toString() {
+            StringJoiner joiner = new StringJoiner(", ", interfaceClass.getSimpleName() + "{", "}");
+            for (int i = 0; i < propertyNames.length; i++) {
+                if (resolved[i]) {
+                    joiner.add(propertyNames[i] + "=" + values[i]);
+                }
+            }
+            return joiner.toString();
+        }
+    }
+
+    public Class<T> interfaceClass() {
+        return interfaceClass;
+    }
+}
@@ -0,0 +1,75 @@
+package de.ossi.pojo;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Finds the classes of a package and its subpackages in directories and jar files of the class path.
+ */
+final class PackageScanner {
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    private PackageScanner() {
+    }
+
+    static List<Class<?>> findClasses(String packageName, ClassLoader classLoader) {
+        String packagePath = packageName.replace('.', '/');
+        Set<String> classNames = new TreeSet<>();
+        try {
+            for (URL url : Collections.list(classLoader.getResources(packagePath))) {
+                switch (url.getProtocol()) {
+                    case "file" -> findInDirectory(Path.of(url.toURI()), packageName, classNames);
+                    case "jar" -> findInJar(((JarURLConnection) url.openConnection()).getJarFile(), packagePath, classNames);
+                    default -> {
+                        //other class path elements, e.g. of the runtime image, are not scanned
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("The package " + packageName + " can not be scanned.", e);
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("The package " + packageName + " can not be scanned.", e);
+        }
+        List<Class<?>> classes = new ArrayList<>();
+        for (String className : classNames) {
+            if (className.contains("-")) {
+                //package-info and module-info
+                continue;
+            }
+            try {
+                classes.add(Class.forName(className, false, classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                //e.g. a class with missing dependencies
+            }
+        }
+        return classes;
+    }
+
+    private static void findInDirectory(Path directory, String packageName, Set<String> classNames) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.map(directory::relativize)
+                    .map(Path::toString)
+                    .filter(file -> file.endsWith(CLASS_SUFFIX))
+                    .map(file -> packageName + "." + file.substring(0, file.length() - CLASS_SUFFIX.length()).replace(directory.getFileSystem().getSeparator(), "."))
+                    .forEach(classNames::add);
+        }
+    }
+
+    private static void findInJar(JarFile jar, String packagePath, Set<String> classNames) {
+        jar.stream()
+                .map(JarEntry::getName)
+                .filter(name -> name.startsWith(packagePath + "/") && name.endsWith(CLASS_SUFFIX))
+                .map(name -> name.substring(0, name.length() - CLASS_SUFFIX.length()).replace('/', '.'))
+                .forEach(classNames::add);
+    }
+}
@@ -0,0 +1,28 @@
+package de.ossi.pojo;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for the discovery of the reflection data of a bean class or of its setters with a prefix.
+ * Both happen only once per class and prefix, so the event is always emitted while JFR records it.
+ */
+@Name("de.ossi.pojo.PlanBuild")
+@Label("Bean Plan Build")
+@Category("PojoPopulator")
+@Description("Discovery of the constructor or the setters of a bean class")
+final class PlanBuildEvent extends Event {
+
+    @Label("Bean Class")
+    Class<?> beanClass;
+
+    @Label("Setter Prefix")
+    @Description("The prefix of the scanned setters or null, if the bean class itself is discovered")
+    String setterPrefix;
+
+    @Label("Setter Count")
+    int setterCount;
+}
@@ -0,0 +1,161 @@
+package de.ossi.pojo;
+
+import de.ossi.pojo.SetterReflectionUtil.Setter;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * Text file with the setters discovered for bean classes, so later runs can look up these setters directly
+ * instead of scanning all methods of the bean classes.
+ * Every line contains the bean class, the setter prefix, the setter name, its parameter type
+ * and the checksum of the class files of the bean class and its supertypes separated by tabs.
+ * A snapshot has to be written again, when the bean classes change. Classes or setters, which can't be found anymore,
+ * and classes, whose class files don't match the checksum anymore, e.g. because a setter was added, are skipped,
+ * so their setters are scanned as usual. The checksum is computed from the bytes of the class files,
+ * so loading a snapshot never enumerates the methods of the bean classes.
+ */
+final class PlanSnapshot {
+
+    private static final String HEADER = "#pojopopulator plan snapshot 3";
+    private static final String SEPARATOR = "\t";
+
+    private PlanSnapshot() {
+    }
+
+    /**
+     * Writes the setters of the classes with all prefixes scanned so far, or with the given prefix, if none is scanned yet.
+     * Classes with a generated populator are skipped, because they are never scanned.
+     *
+     * @return the number of setters written
+     */
+    static int write(Path path, Collection<Class<?>> beanClasses, String defaultPrefix) throws IOException {
+        int count = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (Class<?> beanClass : beanClasses) {
+                BeanPlan plan = BeanPlan.of(beanClass);
+                if (plan.accessStrategy() == AccessStrategy.GENERATED) {
+                    continue;
+                }
+                Map<String, List<Setter>> settersByPrefix = plan.scannedSetters();
+                if (settersByPrefix.isEmpty()) {
+                    settersByPrefix = Map.of(defaultPrefix, plan.setters(defaultPrefix));
+                }
+                String checksum = checksum(beanClass);
+                for (Map.Entry<String, List<Setter>> entry : settersByPrefix.entrySet()) {
+                    for (Setter setter : entry.getValue()) {
+                        writer.write(String.join(SEPARATOR, beanClass.getName(), entry.getKey(), setter.setter().getName(), setter.type().getName(),
+                                checksum));
+                        writer.newLine();
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Restores the setters of all classes in the snapshot, which can be found with the class loader and still match their checksum.
+     *
+     * @return the bean classes restored
+     * @throws IllegalArgumentException if the file is no snapshot of the current version
+     */
+    static List<Class<?>> load(Path path, ClassLoader classLoader) throws IOException {
+        Map<ClassPrefix, List<String[]>> linesByClass = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            if (!HEADER.equals(reader.readLine())) {
+                throw new IllegalArgumentException("The file " + path + " is no plan snapshot of the current version, it has to be written again.");
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] columns = line.split(SEPARATOR, -1);
+                if (columns.length == 5) {
+                    linesByClass.computeIfAbsent(new ClassPrefix(columns[0], columns[1]), k -> new ArrayList<>()).add(columns);
+                }
+            }
+        }
+        Set<Class<?>> restored = new LinkedHashSet<>();
+        Map<Class<?>, String> checksums = new HashMap<>();
+        for (Map.Entry<ClassPrefix, List<String[]>> entry : linesByClass.entrySet()) {
+            try {
+                Class<?> beanClass = Class.forName(entry.getKey().className(), false, classLoader);
+                String prefix = entry.getKey().prefix();
+                String checksum = checksums.get(beanClass);
+                if (checksum == null) {
+                    checksum = checksum(beanClass);
+                    checksums.put(beanClass, checksum);
+                }
+                if (!checksum.equals(entry.getValue().get(0)[4])) {
+                    //the class has changed since the snapshot was written, its setters are scanned as usual
+                    continue;
+                }
+                List<Method> setters = new ArrayList<>();
+                for (String[] columns : entry.getValue()) {
+                    setters.add(beanClass.getMethod(columns[2], toClass(columns[3], classLoader)));
+                }
+                BeanPlan.of(beanClass).restoreSetters(prefix, setters);
+                restored.add(beanClass);
+            } catch (ClassNotFoundException | NoSuchMethodException e) {
+                //the class has changed since the snapshot was written, it is scanned as usual
+            }
+        }
+        return List.copyOf(restored);
+    }
+
+    /**
+     * CRC32 of the class files of the bean class and all its supertypes, which can declare public setters.
+     * The supertypes of the boot class loader, e.g. Object or Serializable, are skipped, because they don't change between runs.
+     * A class without a class file, e.g. one generated at runtime, contributes its name only,
+     * so it is just checked by looking up its setters.
+     */
+    static String checksum(Class<?> beanClass) throws IOException {
+        CRC32 crc = new CRC32();
+        Deque<Class<?>> types = new ArrayDeque<>(List.of(beanClass));
+        Set<Class<?>> visited = new HashSet<>();
+        while (!types.isEmpty()) {
+            Class<?> type = types.pop();
+            if (type.getClassLoader() == null || !visited.add(type)) {
+                continue;
+            }
+            crc.update(type.getName().getBytes(StandardCharsets.UTF_8));
+            try (InputStream in = type.getResourceAsStream("/" + type.getName().replace('.', '/') + ".class")) {
+                if (in != null) {
+                    crc.update(in.readAllBytes());
+                }
+            }
+            if (type.getSuperclass() != null) {
+                types.push(type.getSuperclass());
+            }
+            types.addAll(Arrays.asList(type.getInterfaces()));
+        }
+        return Long.toHexString(crc.getValue());
+    }
+
+    private static Class<?> toClass(String name, ClassLoader classLoader) throws ClassNotFoundException {
+        return switch (name) {
+            case "int" -> int.class;
+            case "long" -> long.class;
+            case "double" -> double.class;
+            case "float" -> float.class;
+            case "boolean" -> boolean.class;
+            case "byte" -> byte.class;
+            case "short" -> short.class;
+            case "char" -> char.class;
+            default -> Class.forName(name, false, classLoader);
+        };
+    }
+
+    private record ClassPrefix(String className, String prefix) {
+    }
+}
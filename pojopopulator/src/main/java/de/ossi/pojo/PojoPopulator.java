@@ -0,0 +1,743 @@
+package de.ossi.pojo;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.random.RandomGeneratorFactory;
+import java.util.function.*;
+import java.util.stream.Stream;
+
+/**
+ * Class to Create and Populate Java POJOs.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PojoPopulator<B> {
+
+    public static final String DEFAULT_STRING = "string";
+    public static final Number DEFAULT_NUMBER = 1;
+    public static final LocalDate DEFAULT_LOCALDATE = LocalDate.of(1970, 1, 1);
+    public static final LocalDate LOCALDATE_2022 = LocalDate.of(2022, 1, 1);
+    public static final LocalDateTime DEFAULT_LOCALDATETIME = DEFAULT_LOCALDATE.atStartOfDay();
+    public static final LocalDateTime LOCALDATETIME_2022 = LOCALDATE_2022.atStartOfDay();
+    private static final String DEFAULT_SETTER_PREFIX = "set";
+    private static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final Class<B> beanClass;
+
+    private final Map<String, ValueSource> suppliersByName = new HashMap<>();
+    private final Map<Type, ValueSource> suppliersByType = new HashMap<>();
+    private final Map<Class<?>, Integer> sharedInstanceCounts = new HashMap<>();
+    private final Set<String> uniqueNames = new HashSet<>();
+    private final Set<Class<?>> uniqueTypes = new HashSet<>();
+    private final Map<String, SizeRange> sizesByName = new HashMap<>();
+
+    private boolean usingDefaultSuppliers = true;
+    private boolean usingRandomDefaultValues = false;
+    private String setterPrefix = DEFAULT_SETTER_PREFIX;
+    private boolean usingFieldAccess = false;
+    private SizeRange defaultSize = SizeRange.DEFAULT;
+    private Long seed;
+    private String randomAlgorithm;
+    private RandomStrings randomStrings;
+    private int maxDepth = 0;
+    private boolean usingCycleDetection = false;
+    private PopulatorMetrics metrics;
+    //the templates used by make() and the other shortcuts until an option changes, so their beans continue one random sequence
+    private PopulatorTemplate<B> template;
+    private LazyTemplate<B> lazyTemplate;
+
+    /**
+     * Create and Populate the POJO according to the provided options.
+     */
+    public static <T> T create(Class<T> beanClass, Consumer<PojoPopulator<T>> optionSetter) {
+        return createInternal(beanClass, optionSetter).make();
+    }
+
+    /**
+     * Create and Populate the POJO with default values.
+     */
+    public static <T> T create(Class<T> beanClass) {
+        return createInternal(beanClass, c -> {}).make();
+    }
+
+    /**
+     * Creates a reusable template, which populates POJOs according to the provided options.
+     * The template is immutable and can be shared between threads.
+     */
+    public static <T> PopulatorTemplate<T> template(Class<T> beanClass, Consumer<PojoPopulator<T>> optionSetter) {
+        return createInternal(beanClass, optionSetter).toTemplate();
+    }
+
+    /**
+     * Creates a reusable template, which populates POJOs with default values.
+     */
+    public static <T> PopulatorTemplate<T> template(Class<T> beanClass) {
+        return createInternal(beanClass, c -> {}).toTemplate();
+    }
+
+    /**
+     * Creates a lazy bean implementing the interface according to the provided options.
+     * Each getter invokes its supplier on first access only.
+     *
+     * @see #makeLazy()
+     */
+    public static <T> T lazy(Class<T> interfaceClass, Consumer<PojoPopulator<T>> optionSetter) {
+        return createInternal(interfaceClass, optionSetter).makeLazy();
+    }
+
+    /**
+     * Creates a lazy bean implementing the interface with default values.
+     *
+     * @see #makeLazy()
+     */
+    public static <T> T lazy(Class<T> interfaceClass) {
+        return createInternal(interfaceClass, c -> {}).makeLazy();
+    }
+
+    /**
+     * Creates an immutable template of lazy beans implementing the interface according to the provided options.
+     * The suppliers are resolved once, so the template makes lazy beans without resolving them again.
+     *
+     * @see #toLazyTemplate()
+     */
+    public static <T> LazyTemplate<T> lazyTemplate(Class<T> interfaceClass, Consumer<PojoPopulator<T>> optionSetter) {
+        return createInternal(interfaceClass, optionSetter).toLazyTemplate();
+    }
+
+    /**
+     * Creates an immutable template of lazy beans implementing the interface with default values.
+     *
+     * @see #toLazyTemplate()
+     */
+    public static <T> LazyTemplate<T> lazyTemplate(Class<T> interfaceClass) {
+        return createInternal(interfaceClass, c -> {}).toLazyTemplate();
+    }
+
+    private static <T> PojoPopulator<T> createInternal(Class<T> beanClass, Consumer<PojoPopulator<T>> optionSetter) {
+        PojoPopulator<T> pojoPopulator = new PojoPopulator<>(beanClass);
+        optionSetter.accept(pojoPopulator);
+        return pojoPopulator;
+    }
+
+    /**
+     * Sets a supplier to be used to populate <b>>all</b properties of the specified type in the bean.
+     * But only if no other property supplier specified by {@link PojoPopulator#withValue(String, Supplier)}.
+     *
+     * @param propertyClass the Type of the property fields be populated
+     * @param supplier      the supplier to be used to populate the property fields
+     */
+    public <T> PojoPopulator<B> withValue(@NonNull Class<T> propertyClass, Supplier<T> supplier) {
+        suppliersByType.put(propertyClass, ValueSource.of(supplier));
+        return changed();
+    }
+
+    /**
+     * Sets a supplier to be used to populate the specified field in the bean with the property name.
+     * The type of the object provided by the supplier must be the same as the property field.
+     * Will be used prior to the supplier provided by {@link PojoPopulator#withValue(Class, Supplier)}.
+     *
+     * @param propertyName <b>cannot be empty!</b>
+     * @param supplier     the supplier to be used to populate the property field
+     */
+    public <T> PojoPopulator<B> withValue(@NonNull String propertyName, Supplier<T> supplier) {
+        checkPropertyName(propertyName);
+        suppliersByName.put(propertyName, ValueSource.of(supplier));
+        return changed();
+    }
+
+    /**
+     * Sets a batch supplier to be used to populate <b>all</b> properties of the specified type in the bean.
+     * The values are prefetched per thread in batches of up to 256 values.
+     *
+     * @see #withBatchValue(Class, BatchSupplier, int)
+     */
+    public <T> PojoPopulator<B> withBatchValue(@NonNull Class<T> propertyClass, BatchSupplier<T> supplier) {
+        return withBatchValue(propertyClass, supplier, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Sets a batch supplier to be used to populate <b>all</b> properties of the specified type in the bean.
+     * Takes precedence like {@link PojoPopulator#withValue(Class, Supplier)}.
+     * Every thread prefetches its own batches, so the supplier must be thread-safe for {@link PopulatorTemplate#makeParallel(int, long)}.
+     *
+     * @param batchSize the max number of values prefetched per thread
+     */
+    public <T> PojoPopulator<B> withBatchValue(@NonNull Class<T> propertyClass, BatchSupplier<T> supplier, int batchSize) {
+        checkBatchSize(batchSize);
+        suppliersByType.put(propertyClass, new BatchSource(supplier, batchSize));
+        return changed();
+    }
+
+    /**
+     * Sets a batch supplier to be used to populate the specified field in the bean with the property name.
+     * The values are prefetched per thread in batches of up to 256 values.
+     *
+     * @see #withBatchValue(String, BatchSupplier, int)
+     */
+    public <T> PojoPopulator<B> withBatchValue(@NonNull String propertyName, BatchSupplier<T> supplier) {
+        return withBatchValue(propertyName, supplier, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Sets a batch supplier to be used to populate the specified field in the bean with the property name.
+     * Expensive suppliers are called once per batch instead of once per bean, so making many beans reads the values from a buffer.
+     * The batches start small and grow up to the batch size. Takes precedence like {@link PojoPopulator#withValue(String, Supplier)}.
+     * Every thread prefetches its own batches, so the supplier must be thread-safe for {@link PopulatorTemplate#makeParallel(int, long)}.
+     *
+     * @param propertyName <b>cannot be empty!</b>
+     * @param batchSize    the max number of values prefetched per thread
+     */
+    public <T> PojoPopulator<B> withBatchValue(@NonNull String propertyName, BatchSupplier<T> supplier, int batchSize) {
+        checkPropertyName(propertyName);
+        checkBatchSize(batchSize);
+        suppliersByName.put(propertyName, new BatchSource(supplier, batchSize));
+        return changed();
+    }
+
+    /**
+     * Sets a distribution to be used to populate <b>all</b> properties of the specified type in the bean, e.g. skewed keys.
+     * The samples are drawn from the generator of the populator, so they are reproducible with {@link #usingSeed(long)}.
+     * Takes precedence like {@link PojoPopulator#withValue(Class, Supplier)}.
+     */
+    public <T> PojoPopulator<B> withValue(@NonNull Class<T> propertyClass, @NonNull Distribution<? extends T> distribution) {
+        suppliersByType.put(propertyClass, c -> distribution.sample(c.random()));
+        return changed();
+    }
+
+    /**
+     * Sets a distribution to be used to populate the specified field in the bean with the property name.
+     * The samples are drawn from the generator of the populator, so they are reproducible with {@link #usingSeed(long)}.
+     * Takes precedence like {@link PojoPopulator#withValue(String, Supplier)}.
+     *
+     * @param propertyName <b>cannot be empty!</b>
+     * @see Distribution
+     */
+    public <T> PojoPopulator<B> withValue(@NonNull String propertyName, @NonNull Distribution<? extends T> distribution) {
+        checkPropertyName(propertyName);
+        suppliersByName.put(propertyName, c -> distribution.sample(c.random()));
+        return changed();
+    }
+
+    /**
+     * Sets a dictionary to be used to populate the specified String field with random lines of the file, e.g. names or cities.
+     * The file is newline-delimited UTF-8. It is memory-mapped and indexed only once per JVM,
+     * so the dictionary is shared by all populators and threads and is not loaded into the heap.
+     * Takes precedence like {@link PojoPopulator#withValue(String, Supplier)}.
+     *
+     * @param propertyName <b>cannot be empty!</b>
+     * @throws java.io.UncheckedIOException if the file can't be read
+     * @throws IllegalArgumentException     if the file has no lines
+     */
+    public PojoPopulator<B> withDictionary(@NonNull String propertyName, @NonNull Path path) {
+        checkPropertyName(propertyName);
+        suppliersByName.put(propertyName, Dictionary.of(path));
+        return changed();
+    }
+
+    /**
+     * Sets a supplier to be used to populate the specified primitive int field in the bean without boxing.
+     * Takes precedence like {@link PojoPopulator#withValue(String, Supplier)}.
+     */
+    public PojoPopulator<B> withInt(@NonNull String propertyName, IntSupplier supplier) {
+        checkPropertyName(propertyName);
+        suppliersByName.put(propertyName, ValueSource.ofInt(supplier));
+        return changed();
+    }
+
+    /**
+     * Sets a supplier to be used to populate <b>all</b> primitive int fields in the bean without boxing.
+     * Takes precedence like {@link PojoPopulator#withValue(Class, Supplier)} for the type int.
+     */
+    public PojoPopulator<B> withInt(IntSupplier supplier) {
+        suppliersByType.put(int.class, ValueSource.ofInt(supplier));
+        return changed();
+    }
+
+    /**
+     * Sets a supplier to be used to populate the specified primitive long field in the bean without boxing.
+     * Takes precedence like {@link PojoPopulator#withValue(String, Supplier)}.
+     */
+    public PojoPopulator<B> withLong(@NonNull String propertyName, LongSupplier supplier) {
+        checkPropertyName(propertyName);
+        suppliersByName.put(propertyName, ValueSource.ofLong(supplier));
+        return changed();
+    }
+
+    /**
+     * Sets a supplier to be used to populate <b>all</b> primitive long fields in the bean without boxing.
+     * Takes precedence like {@link PojoPopulator#withValue(Class, Supplier)} for the type long.
+     */
+    public PojoPopulator<B> withLong(LongSupplier supplier) {
+        suppliersByType.put(long.class, ValueSource.ofLong(supplier));
+        return changed();
+    }
+
+    /**
+     * Sets a supplier to be used to populate the specified primitive double field in the bean without boxing.
+     * Takes precedence like {@link PojoPopulator#withValue(String, Supplier)}.
+     */
+    public PojoPopulator<B> withDouble(@NonNull String propertyName, DoubleSupplier supplier) {
+        checkPropertyName(propertyName);
+        suppliersByName.put(propertyName, ValueSource.ofDouble(supplier));
+        return changed();
+    }
+
+    /**
+     * Sets a supplier to be used to populate <b>all</b> primitive double fields in the bean without boxing.
+     * Takes precedence like {@link PojoPopulator#withValue(Class, Supplier)} for the type double.
+     */
+    public PojoPopulator<B> withDouble(DoubleSupplier supplier) {
+        suppliersByType.put(double.class, ValueSource.ofDouble(supplier));
+        return changed();
+    }
+
+    /**
+     * Sets a supplier to be used to populate the specified primitive boolean field in the bean without boxing.
+     * Takes precedence like {@link PojoPopulator#withValue(String, Supplier)}.
+     */
+    public PojoPopulator<B> withBoolean(@NonNull String propertyName, BooleanSupplier supplier) {
+        checkPropertyName(propertyName);
+        suppliersByName.put(propertyName, ValueSource.ofBoolean(supplier));
+        return changed();
+    }
+
+    /**
+     * Sets a supplier to be used to populate <b>all</b> primitive boolean fields in the bean without boxing.
+     * Takes precedence like {@link PojoPopulator#withValue(Class, Supplier)} for the type boolean.
+     */
+    public PojoPopulator<B> withBoolean(BooleanSupplier supplier) {
+        suppliersByType.put(boolean.class, ValueSource.ofBoolean(supplier));
+        return changed();
+    }
+
+    /**
+     * Sets the option to populate the specified property with unique values, e.g. for a primary key.
+     * The values are generated by permuting a counter, so they are unique for all beans of a template, including nested beans,
+     * in constant memory, also in parallel generation. Supported property types are int, long, String and UUID.
+     * A supplier set by {@link PojoPopulator#withValue(String, Supplier)} for the same property takes precedence.
+     *
+     * @param propertyName <b>cannot be empty!</b>
+     */
+    public PojoPopulator<B> withUnique(@NonNull String propertyName) {
+        checkPropertyName(propertyName);
+        uniqueNames.add(propertyName);
+        return changed();
+    }
+
+    /**
+     * Sets the option to populate <b>all</b> properties of the specified type with unique values.
+     * All properties of the type share the unique values, e.g. the elements of collections and the properties of nested beans,
+     * so no value is repeated in any of them. Primitive types share the values with their wrapper type. Takes precedence over the default suppliers,
+     * but a supplier set by {@link PojoPopulator#withValue(Class, Supplier)} for the same type takes precedence.
+     *
+     * @param propertyClass one of int, long, String and UUID and their wrapper types
+     * @see #withUnique(String)
+     */
+    public PojoPopulator<B> withUnique(@NonNull Class<?> propertyClass) {
+        uniqueTypes.add(propertyClass);
+        return changed();
+    }
+
+    /**
+     * Sets the range of the sizes of <b>all</b> collections, maps and arrays in the bean, which are populated with generated elements.
+     * The sizes are uniformly distributed. Without this option, every container has exactly one element.
+     * The elements are populated by the suppliers of their type, e.g. {@code List<String>} by the supplier of String.
+     *
+     * @param min the minimal size, inclusive
+     * @param max the maximal size, inclusive
+     */
+    public PojoPopulator<B> withSize(int min, int max) {
+        defaultSize = new SizeRange(min, max);
+        return changed();
+    }
+
+    /**
+     * Sets the range of the sizes of the specified collection, map or array property.
+     * Takes precedence over {@link #withSize(int, int)}. Nested containers, e.g. the lists of a {@code List<List<String>>}, have the same range.
+     *
+     * @param propertyName <b>cannot be empty!</b>
+     */
+    public PojoPopulator<B> withSize(@NonNull String propertyName, int min, int max) {
+        checkPropertyName(propertyName);
+        sizesByName.put(propertyName, new SizeRange(min, max));
+        return changed();
+    }
+
+    private void checkPropertyName(String propertyName) {
+        if ("".equals(propertyName)) {
+            throw new IllegalArgumentException("The property name can not be empty.");
+        }
+    }
+
+    private void checkBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be positive.");
+        }
+    }
+
+    /**
+     * Sets the option to <b>not</b> use default suppliers to populate the property fields.
+     * If no other suppliers are provided for a field type, these fields will not be initialized -> null.
+     */
+    public PojoPopulator<B> usingNoDefaultSuppliers() {
+        usingDefaultSuppliers = false;
+        return changed();
+    }
+
+    public PojoPopulator<B> usingSetterPrefix(String setterPrefix) {
+        this.setterPrefix = setterPrefix;
+        return changed();
+    }
+
+    public PojoPopulator<B> usingNoSetterPrefix() {
+        this.setterPrefix = "";
+        return changed();
+    }
+
+    /**
+     * Sets the option to write the fields of the bean directly instead of calling setters.
+     * All non-static, non-final fields of the bean class and its superclasses are populated, including private ones,
+     * so beans without setters or with fluent setters can be populated as well. The property name is the field name.
+     * The setter prefix is ignored.
+     */
+    public PojoPopulator<B> usingFieldAccess() {
+        this.usingFieldAccess = true;
+        return changed();
+    }
+
+    public PojoPopulator<B> usingRandomDefaultValues() {
+        this.usingRandomDefaultValues = true;
+        return changed();
+    }
+
+    /**
+     * Sets the seed of the random generator used for the random default values.
+     * Beans made sequentially by one thread are reproducible with the same seed.
+     * Repeated calls of {@link #make()} continue the same sequence until an option of this populator is changed.
+     *
+     * @see #usingRandomDefaultValues()
+     */
+    public PojoPopulator<B> usingSeed(long seed) {
+        this.seed = seed;
+        return changed();
+    }
+
+    /**
+     * Sets the algorithm of the random generators, e.g. "L64X128MixRandom" or "Xoshiro256PlusPlus".
+     * Every thread and every chunk of a parallel generation gets its own generator of the algorithm, seeded from the seed of the populator.
+     * Without this option, the generators are split off a {@link SplittableRandom}.
+     *
+     * @param algorithm the name of a {@link java.util.random.RandomGeneratorFactory}
+     * @throws IllegalArgumentException if the algorithm is unknown
+     */
+    public PojoPopulator<B> usingRandomGenerator(@NonNull String algorithm) {
+        RandomGeneratorFactory.of(algorithm);
+        this.randomAlgorithm = algorithm;
+        return changed();
+    }
+
+    /**
+     * Sets the option to populate String properties by default with random alphanumeric strings instead of {@link #DEFAULT_STRING}.
+     *
+     * @param minLength the minimal length, inclusive
+     * @param maxLength the maximal length, inclusive
+     */
+    public PojoPopulator<B> usingRandomStrings(int minLength, int maxLength) {
+        return usingRandomStrings(minLength, maxLength, RandomStrings.ALPHANUMERIC);
+    }
+
+    /**
+     * Sets the option to populate String properties by default with random strings of the characters of the alphabet.
+     * The strings are built in a reusable buffer per thread, so there are no allocations apart from the strings themselves.
+     *
+     * @param minLength the minimal length, inclusive
+     * @param maxLength the maximal length, inclusive
+     * @param alphabet  the characters, which are drawn uniformly. Repeated characters are drawn more often.
+     */
+    public PojoPopulator<B> usingRandomStrings(int minLength, int maxLength, @NonNull String alphabet) {
+        this.randomStrings = new RandomStrings(minLength, maxLength, alphabet);
+        return changed();
+    }
+
+    /**
+     * Sets the option to populate properties, whose type is a bean without any matching supplier, with nested populated beans.
+     * The nested beans are populated with the same options as the bean itself.
+     * Self-referential types, e.g. the supervisor of an employee, are populated until the max depth and are null below.
+     *
+     * @see #usingCycleDetection()
+     * @param maxDepth the number of nested levels below the bean. 0 disables nested beans.
+     */
+    public PojoPopulator<B> usingNestedBeans(int maxDepth) {
+        if (maxDepth < 0) {
+            throw new IllegalArgumentException("The max depth can not be negative.");
+        }
+        this.maxDepth = maxDepth;
+        return changed();
+    }
+
+    /**
+     * Sets the option to end nested beans at a class, which is already populated above on the path from the bean,
+     * instead of at the max depth. So cycles like A to B to A don't create nested beans and templates down to the max depth.
+     * Self-referential types, e.g. the supervisor of an employee, are null then. Use {@link #withSharedInstances(Class, int)} for them instead.
+     *
+     * @see #usingNestedBeans(int)
+     */
+    public PojoPopulator<B> usingCycleDetection() {
+        this.usingCycleDetection = true;
+        return changed();
+    }
+
+    /**
+     * Sets the option to populate <b>all</b> properties of the specified bean type with a bounded pool of shared instances.
+     * The shared instances are made once per template and reused by all beans, e.g. 50 supervisors for a million employees.
+     * Works with or without {@link #usingNestedBeans(int)}, but a supplier for the type takes precedence.
+     *
+     * @param count the number of distinct shared instances
+     */
+    public <T> PojoPopulator<B> withSharedInstances(@NonNull Class<T> beanClass, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("The count of shared instances must be positive.");
+        }
+        sharedInstanceCounts.put(beanClass, count);
+        return changed();
+    }
+
+    /**
+     * Sets the metrics, which are told the latencies of the constructor, the suppliers and the setters and the plan cache lookups.
+     * Additionally, supplier calls of at least 1 ms are emitted as JFR events "de.ossi.pojo.SlowSupplier".
+     * Without metrics, the templates are not measured at all.
+     *
+     * @see HistogramMetrics
+     */
+    public PojoPopulator<B> usingMetrics(@NonNull PopulatorMetrics metrics) {
+        this.metrics = metrics;
+        return changed();
+    }
+
+    /**
+     * Populates the bean property fields with the suppliers provided or default suppliers of not otherwise specified.
+     * The NoArgs Constructor and the Setters are invoked by {@link java.lang.invoke.MethodHandle}s,
+     * if the bean class is public accessible. Otherwise they are invoked per Reflection.
+     * Records and classes without a NoArgs Constructor, which have a single constructor, are made by passing
+     * a value for every constructor parameter instead, which is resolved like the value of a setter with the parameter name.
+     * To populate more than one bean with the same options use {@link #toTemplate()}.
+     *
+     * @see #accessStrategy(Class)
+     */
+    public B make() {
+        return template().make();
+    }
+
+    /**
+     * Populates an existing bean with the suppliers provided or default suppliers if not otherwise specified.
+     *
+     * @see PopulatorTemplate#populate(Object)
+     */
+    public B populate(B bean) {
+        return template().populate(bean);
+    }
+
+    /**
+     * Creates a {@link java.lang.reflect.Proxy} implementing the interface, whose getters generate their values on first access.
+     * The suppliers are searched with the same precedence as for setters, by the property name of the getter and then by its return type.
+     * The value is remembered, so later calls of the getter return the same value. A setter matching a getter overwrites the value.
+     * Getters without any matching supplier return null or the default value of their primitive type.
+     *
+     * @throws IllegalArgumentException if the bean class is not an interface
+     */
+    public B makeLazy() {
+        return lazyTemplate().make();
+    }
+
+    /**
+     * Freezes the current options into an immutable template of lazy beans implementing the interface.
+     * The suppliers are resolved once for all getters of the interface, so later changes of this populator don't affect the template.
+     *
+     * @throws IllegalArgumentException if the bean class is not an interface
+     * @see #makeLazy()
+     */
+    public LazyTemplate<B> toLazyTemplate() {
+        return createTemplateFactory().createLazy(beanClass);
+    }
+
+    /**
+     * Creates the given number of populated beans.
+     * The suppliers are resolved only once for all beans.
+     *
+     * @see PopulatorTemplate#makeMany(int)
+     */
+    public List<B> makeMany(int count) {
+        return template().makeMany(count);
+    }
+
+    /**
+     * Adds the given number of populated beans to the target collection.
+     *
+     * @see PopulatorTemplate#fill(Collection, int)
+     */
+    public <C extends Collection<? super B>> C fill(C target, int count) {
+        return template().fill(target, count);
+    }
+
+    /**
+     * Returns a lazy stream of the given number of populated beans.
+     *
+     * @see PopulatorTemplate#stream(long)
+     */
+    public Stream<B> stream(long count) {
+        return template().stream(count);
+    }
+
+    /**
+     * Returns a lazy iterator over the given number of populated beans.
+     *
+     * @see PopulatorTemplate#iterator(long)
+     */
+    public Iterator<B> iterator(long count) {
+        return template().iterator(count);
+    }
+
+    /**
+     * Creates the given number of populated beans in parallel.
+     *
+     * @see PopulatorTemplate#makeParallel(int, long)
+     */
+    public List<B> makeParallel(int count, long seed) {
+        return template().makeParallel(count, seed);
+    }
+
+    /**
+     * Creates a writer, which generates populated beans straight into a fixture file.
+     *
+     * @see PopulatorTemplate#writer(FixtureFormat)
+     */
+    public FixtureWriter<B> writer(FixtureFormat format) {
+        return template().writer(format);
+    }
+
+    /**
+     * Freezes the current options into an immutable template.
+     * The suppliers are resolved once for all setters of the bean, so later changes of this populator don't affect the template.
+     */
+    public PopulatorTemplate<B> toTemplate() {
+        return createTemplateFactory().create(beanClass);
+    }
+
+    /**
+     * Marks the templates of the shortcuts as outdated after an option changed.
+     */
+    private PojoPopulator<B> changed() {
+        template = null;
+        lazyTemplate = null;
+        return this;
+    }
+
+    private PopulatorTemplate<B> template() {
+        if (template == null) {
+            template = toTemplate();
+        }
+        return template;
+    }
+
+    private LazyTemplate<B> lazyTemplate() {
+        if (lazyTemplate == null) {
+            lazyTemplate = toLazyTemplate();
+        }
+        return lazyTemplate;
+    }
+
+    private TemplateFactory createTemplateFactory() {
+        Map<Type, ValueSource> defaultSuppliers = usingDefaultSuppliers
+                ? new DefaultValues(usingRandomDefaultValues, randomStrings).suppliers()
+                : Map.of();
+        RandomEngine randomEngine = RandomEngine.of(seed, randomAlgorithm);
+        return new TemplateFactory(suppliersByName, suppliersByType, defaultSuppliers, uniqueNames, uniqueTypes,
+                setterPrefix, usingFieldAccess, sizesByName, defaultSize, maxDepth, usingCycleDetection, sharedInstanceCounts, randomEngine, metrics);
+    }
+
+    /**
+     * Discovers the constructors and setters of the bean classes now, so the first populator of each class doesn't pay for it.
+     * The discovered data is cached for the lifetime of the classes and shared by all populators.
+     * Only the setters with the default prefix "set" are prepared.
+     */
+    public static void prepare(@NonNull Class<?>... beanClasses) {
+        for (Class<?> beanClass : beanClasses) {
+            BeanPlan.of(beanClass).prepare(DEFAULT_SETTER_PREFIX);
+        }
+    }
+
+    /**
+     * Like {@link #prepare(Class[])}, but on a new daemon thread, e.g. while the test JVM or the job starts up.
+     * Populators used before the future completes discover the classes themselves.
+     */
+    public static CompletableFuture<Void> prepareInBackground(@NonNull Class<?>... beanClasses) {
+        Class<?>[] copy = beanClasses.clone();
+        return CompletableFuture.runAsync(() -> prepare(copy), command -> {
+            Thread thread = new Thread(command, "pojopopulator-prepare");
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    /**
+     * Prepares all bean classes of the package and its subpackages, which are found in directories or jar files of the class path.
+     * Bean classes are concrete, named classes with a NoArgs Constructor, records and classes with a single constructor.
+     *
+     * @return the prepared bean classes
+     * @see #prepare(Class[])
+     */
+    public static List<Class<?>> preparePackage(@NonNull String packageName) {
+        List<Class<?>> beanClasses = PackageScanner.findClasses(packageName, classLoader()).stream()
+                .filter(c -> !c.isAnonymousClass() && !c.isLocalClass() && !c.isSynthetic() && !c.isInterface()
+                        && !Modifier.isAbstract(c.getModifiers()))
+                .filter(c -> BeanPlan.of(c).isNestable())
+                .toList();
+        prepare(beanClasses.toArray(Class<?>[]::new));
+        return beanClasses;
+    }
+
+    /**
+     * Writes the setters of the bean classes to a snapshot file, which can be loaded by {@link #loadSnapshot(Path)} in later runs.
+     * Contains the setters of all prefixes used so far or of the default prefix "set".
+     *
+     * @return the number of setters written
+     */
+    public static int writeSnapshot(@NonNull Path path, @NonNull Collection<Class<?>> beanClasses) throws IOException {
+        return PlanSnapshot.write(path, beanClasses, DEFAULT_SETTER_PREFIX);
+    }
+
+    /**
+     * Loads the setters of a snapshot, so the bean classes in it are not scanned for setters anymore.
+     * The setters are looked up directly by their name and parameter type. Classes, which changed since the snapshot
+     * was written, are detected by a checksum of their class files and are scanned as usual,
+     * so the snapshot should be written again, when the bean classes change.
+     *
+     * @return the bean classes loaded from the snapshot
+     * @throws IllegalArgumentException if the file is no snapshot of the current version
+     */
+    public static List<Class<?>> loadSnapshot(@NonNull Path path) throws IOException {
+        return PlanSnapshot.load(path, classLoader());
+    }
+
+    private static ClassLoader classLoader() {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        return contextClassLoader != null ? contextClassLoader : PojoPopulator.class.getClassLoader();
+    }
+
+    /**
+     * Returns the strategy used to invoke the NoArgs Constructor and the Setters of the bean class.
+     * Single members, which are not public accessible, are invoked per Reflection nevertheless.
+     */
+    public static AccessStrategy accessStrategy(Class<?> beanClass) {
+        return BeanPlan.of(beanClass).accessStrategy();
+    }
+}
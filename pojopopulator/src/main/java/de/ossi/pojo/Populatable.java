@@ -0,0 +1,16 @@
+package de.ossi.pojo;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a bean, for which the pojopopulator-processor generates a {@link GeneratedPopulator} at compile time.
+ * The bean and its NoArgs Constructor must not be private.
+ * Without the processor on the annotation processor path, the annotation has no effect and the bean is populated per Reflection.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface Populatable {
+}
@@ -0,0 +1,38 @@
+package de.ossi.pojo;
+
+/**
+ * Hook to observe where the time of the generation is spent.
+ * Only if metrics are set by {@link PojoPopulator#usingMetrics(PopulatorMetrics)}, the bindings of a template are decorated
+ * with measuring ones, so populators without metrics have no overhead.
+ * The methods are called concurrently by all threads using the template and have to be thread-safe.
+ *
+ * @see HistogramMetrics
+ */
+public interface PopulatorMetrics {
+
+    /**
+     * Called once per bean class when a template is created.
+     *
+     * @param hit false, if the reflection data of the class was discovered by this call
+     */
+    default void planLookup(Class<?> beanClass, boolean hit) {
+    }
+
+    /**
+     * Called for every new instance of a bean with the time of the constructor.
+     */
+    default void instantiated(Class<?> beanClass, long nanos) {
+    }
+
+    /**
+     * Called for every value with the time spent in the supplier of the property.
+     */
+    default void supplied(Class<?> beanClass, String propertyName, long nanos) {
+    }
+
+    /**
+     * Called for every populated property with the time of the supplier and the setter together.
+     */
+    default void populated(Class<?> beanClass, String propertyName, long nanos) {
+    }
+}
@@ -0,0 +1,231 @@
+package de.ossi.pojo;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.lang.reflect.Array;
+import java.util.*;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static de.ossi.pojo.UncheckedUtil.asRuntimeException;
+
+/**
+ * Immutable options of a {@link PojoPopulator}, which are resolved against the setters of the bean.
+ * Can be shared between threads to create and populate any number of POJOs.
+ *
+ * @see PojoPopulator#template(Class, java.util.function.Consumer)
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class PopulatorTemplate<B> {
+
+    private static final int PARALLEL_CHUNK_SIZE = 256;
+
+    private final Class<B> beanClass;
+    private final BeanPlan plan;
+    private final PropertyBinding[] bindings;
+    //null, if the bean is made by its NoArgs Constructor. Otherwise, the bindings are empty.
+    private final ConstructorBinding constructor;
+    //propertyNames[i] is the name of the property populated by bindings[i] or of the i-th constructor parameter
+    private final String[] propertyNames;
+    private final RandomEngine randomEngine;
+    //null, if the template is not measured
+    private final PopulatorMetrics metrics;
+    private final ThreadLocal<GenerationContext> contexts = ThreadLocal.withInitial(this::newContext);
+
+    private GenerationContext newContext() {
+        return new GenerationContext(randomEngine.nextGenerator());
+    }
+
+    /**
+     * Creates a new bean and populates all setters, for which a supplier was resolved.
+     * Every thread draws the random default values from its own generator.
+     *
+     * @see PojoPopulator#make()
+     */
+    public B make() {
+        return make(contexts.get());
+    }
+
+    /**
+     * Used for nested beans, so they draw from the same generator as the enclosing bean.
+     */
+    B make(GenerationContext context) {
+        try {
+            return populate(newInstance(context, null), context);
+        } catch (Throwable e) {
+            throw asRuntimeException(e);
+        }
+    }
+
+    /**
+     * Records and immutable classes are made by their constructor with all values, other beans by their NoArgs Constructor.
+     *
+     * @param values if not null, the values passed to the constructor are stored in it
+     */
+    private B newInstance(GenerationContext context, Object[] values) throws Throwable {
+        if (metrics == null) {
+            return newInstanceUnmeasured(context, values);
+        }
+        long start = System.nanoTime();
+        B bean = newInstanceUnmeasured(context, values);
+        metrics.instantiated(beanClass, System.nanoTime() - start);
+        return bean;
+    }
+
+    private B newInstanceUnmeasured(GenerationContext context, Object[] values) throws Throwable {
+        return beanClass.cast(constructor != null ? constructor.newInstance(context, values) : plan.newInstance());
+    }
+
+    /**
+     * Populates an existing bean again with new values, e.g. to reuse it instead of making a new one.
+     * Properties without a resolved supplier keep their current value.
+     * Records and other beans made by their constructor are immutable and returned unchanged.
+     *
+     * @return the bean
+     */
+    public B populate(@NonNull B bean) {
+        return populate(bean, contexts.get());
+    }
+
+    private B populate(B bean, GenerationContext context) {
+        try {
+            for (PropertyBinding binding : bindings) {
+                binding.apply(bean, context);
+            }
+            return bean;
+        } catch (Throwable e) {
+            throw asRuntimeException(e);
+        }
+    }
+
+    /**
+     * Creates a pool, which reuses up to the given number of released beans.
+     *
+     * @throws IllegalStateException if the bean is a record or another bean made by its constructor,
+     *                               because it can not be populated again
+     * @see BeanPool
+     */
+    public BeanPool<B> pool(int capacity) {
+        if (constructor != null) {
+            throw new IllegalStateException(beanClass.getName() + " is made by its constructor and can not be populated again, so it can not be pooled.");
+        }
+        return new BeanPool<>(this, capacity);
+    }
+
+    /**
+     * Like {@link #make(GenerationContext)}, but also stores the populated values in the order of {@link #propertyNames()}.
+     */
+    B make(GenerationContext context, Object[] values) {
+        try {
+            B bean = newInstance(context, values);
+            for (int i = 0; i < bindings.length; i++) {
+                values[i] = bindings[i].applyAndGet(bean, context);
+            }
+            return bean;
+        } catch (Throwable e) {
+            throw asRuntimeException(e);
+        }
+    }
+
+    /**
+     * The generation context of the current thread.
+     */
+    GenerationContext context() {
+        return contexts.get();
+    }
+
+    /**
+     * The names of all populated properties.
+     */
+    List<String> propertyNames() {
+        return List.of(propertyNames);
+    }
+
+    /**
+     * Creates a writer, which generates beans straight into a fixture file of the given format.
+     */
+    public FixtureWriter<B> writer(@NonNull FixtureFormat format) {
+        return new FixtureWriter<>(this, format);
+    }
+
+    /**
+     * Creates the given number of new populated beans.
+     */
+    public List<B> makeMany(int count) {
+        checkCount(count);
+        return fill(new ArrayList<>(count), count);
+    }
+
+    /**
+     * Adds the given number of new populated beans to the target collection.
+     *
+     * @return the target collection
+     */
+    public <C extends Collection<? super B>> C fill(@NonNull C target, int count) {
+        checkCount(count);
+        for (int i = 0; i < count; i++) {
+            target.add(make());
+        }
+        return target;
+    }
+
+    /**
+     * Returns a lazy sequential stream of the given number of new populated beans.
+     * The beans are only created when they are consumed.
+     */
+    public Stream<B> stream(long count) {
+        checkCount(count);
+        return LongStream.range(0, count).mapToObj(i -> make());
+    }
+
+    /**
+     * Returns a lazy iterator over the given number of new populated beans.
+     */
+    public Iterator<B> iterator(long count) {
+        return stream(count).iterator();
+    }
+
+    /**
+     * Creates the given number of new populated beans in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+     * The beans are generated in chunks of fixed size and every chunk draws from its own generator,
+     * which is derived from the seed in order. Therefore, the random default values are identical for the same seed,
+     * regardless of the number of threads. Shared instances are made again for every call from the seed as well.
+     * Custom suppliers have to be thread-safe and are only deterministic if they are stateless.
+     *
+     * @return a fixed-size list of the beans
+     */
+    public List<B> makeParallel(int count, long seed) {
+        checkCount(count);
+        @SuppressWarnings("unchecked")
+        B[] beans = (B[]) Array.newInstance(beanClass, count);
+        int chunks = (count + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE;
+        RandomEngine chunkEngine = randomEngine.withSeed(seed);
+        RandomGenerator[] chunkRandoms = new RandomGenerator[chunks];
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            chunkRandoms[chunk] = chunkEngine.nextGenerator();
+        }
+        SharedInstances.Scope sharedScope = new SharedInstances.Scope(seed);
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            GenerationContext context = new GenerationContext(chunkRandoms[chunk], sharedScope);
+            int end = Math.min(count, (chunk + 1) * PARALLEL_CHUNK_SIZE);
+            for (int i = chunk * PARALLEL_CHUNK_SIZE; i < end; i++) {
+                beans[i] = make(context);
+            }
+        });
+        return Arrays.asList(beans);
+    }
+
+    private static void checkCount(long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("The count can not be negative.");
+        }
+    }
+
+    public Class<B> beanClass() {
+        return beanClass;
+    }
+}
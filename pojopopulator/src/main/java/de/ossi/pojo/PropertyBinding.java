@@ -0,0 +1,179 @@
+package de.ossi.pojo;
+
+import de.ossi.pojo.SetterReflectionUtil.Setter;
+import de.ossi.pojo.ValueSource.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * A setter of the bean together with the supplier resolved for it.
+ * Primitive setters with a matching primitive supplier are bound to specialized implementations, which don't box the values.
+ */
+interface PropertyBinding {
+
+    MethodType ERASED_SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    void apply(Object bean, GenerationContext context) throws Throwable;
+
+    /**
+     * Like {@link #apply(Object, GenerationContext)}, but returns the value, e.g. to write it to a fixture file.
+     * Primitive values are boxed.
+     */
+    Object applyAndGet(Object bean, GenerationContext context) throws Throwable;
+
+    static PropertyBinding of(Setter setter, ValueSource source) {
+        MethodHandle handle = setter.handle();
+        if (handle == null) {
+            return new ReflectiveBinding(setter.setter(), source);
+        }
+        Class<?> type = setter.type();
+        if (type == int.class && source instanceof IntSource intSource) {
+            return new IntBinding(handle, intSource);
+        }
+        if (type == long.class && source instanceof LongSource longSource) {
+            return new LongBinding(handle, longSource);
+        }
+        if (type == double.class && source instanceof DoubleSource doubleSource) {
+            return new DoubleBinding(handle, doubleSource);
+        }
+        if (type == float.class && source instanceof FloatSource floatSource) {
+            return new FloatBinding(handle, floatSource);
+        }
+        if (type == boolean.class && source instanceof BooleanSource booleanSource) {
+            return new BooleanBinding(handle, booleanSource);
+        }
+        return new ObjectBinding(handle.asType(ERASED_SETTER_TYPE), source);
+    }
+
+    /**
+     * @param handle bound as (Object, Object)void
+     */
+    record ObjectBinding(MethodHandle handle, ValueSource source) implements PropertyBinding {
+        @Override
+        public void apply(Object bean, GenerationContext context) throws Throwable {
+            handle.invokeExact(bean, source.next(context));
+        }
+
+        @Override
+        public Object applyAndGet(Object bean, GenerationContext context) throws Throwable {
+            Object value = source.next(context);
+            handle.invokeExact(bean, value);
+            return value;
+        }
+    }
+
+    record IntBinding(MethodHandle handle, IntSource source) implements PropertyBinding {
+        @Override
+        public void apply(Object bean, GenerationContext context) throws Throwable {
+            handle.invokeExact(bean, source.nextInt(context));
+        }
+
+        @Override
+        public Object applyAndGet(Object bean, GenerationContext context) throws Throwable {
+            int value = source.nextInt(context);
+            handle.invokeExact(bean, value);
+            return value;
+        }
+    }
+
+    record LongBinding(MethodHandle handle, LongSource source) implements PropertyBinding {
+        @Override
+        public void apply(Object bean, GenerationContext context) throws Throwable {
+            handle.invokeExact(bean, source.nextLong(context));
+        }
+
+        @Override
+        public Object applyAndGet(Object bean, GenerationContext context) throws Throwable {
+            long value = source.nextLong(context);
+            handle.invokeExact(bean, value);
+            return value;
+        }
+    }
+
+    record DoubleBinding(MethodHandle handle, DoubleSource source) implements PropertyBinding {
+        @Override
+        public void apply(Object bean, GenerationContext context) throws Throwable {
+            handle.invokeExact(bean, source.nextDouble(context));
+        }
+
+        @Override
+        public Object applyAndGet(Object bean, GenerationContext context) throws Throwable {
+            double value = source.nextDouble(context);
+            handle.invokeExact(bean, value);
+            return value;
+        }
+    }
+
+    record FloatBinding(MethodHandle handle, FloatSource source) implements PropertyBinding {
+        @Override
+        public void apply(Object bean, GenerationContext context) throws Throwable {
+            handle.invokeExact(bean, source.nextFloat(context));
+        }
+
+        @Override
+        public Object applyAndGet(Object bean, GenerationContext context) throws Throwable {
+            float value = source.nextFloat(context);
+            handle.invokeExact(bean, value);
+            return value;
+        }
+    }
+
+    record BooleanBinding(MethodHandle handle, BooleanSource source) implements PropertyBinding {
+        @Override
+        public void apply(Object bean, GenerationContext context) throws Throwable {
+            handle.invokeExact(bean, source.nextBoolean(context));
+        }
+
+        @Override
+        public Object applyAndGet(Object bean, GenerationContext context) throws Throwable {
+            boolean value = source.nextBoolean(context);
+            handle.invokeExact(bean, value);
+            return value;
+        }
+    }
+
+    record ReflectiveBinding(Method setter, ValueSource source) implements PropertyBinding {
+        @Override
+        public void apply(Object bean, GenerationContext context) throws Throwable {
+            try {
+                setter.invoke(bean, source.next(context));
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        @Override
+        public Object applyAndGet(Object bean, GenerationContext context) throws Throwable {
+            Object value = source.next(context);
+            try {
+                setter.invoke(bean, value);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Decorates a binding to report the latency of the supplier and the setter together, only used with {@link PopulatorMetrics}.
+     */
+    record TimedBinding(PropertyBinding binding, PopulatorMetrics metrics, Class<?> beanClass, String propertyName) implements PropertyBinding {
+        @Override
+        public void apply(Object bean, GenerationContext context) throws Throwable {
+            long start = System.nanoTime();
+            binding.apply(bean, context);
+            metrics.populated(beanClass, propertyName, System.nanoTime() - start);
+        }
+
+        @Override
+        public Object applyAndGet(Object bean, GenerationContext context) throws Throwable {
+            long start = System.nanoTime();
+            Object value = binding.applyAndGet(bean, context);
+            metrics.populated(beanClass, propertyName, System.nanoTime() - start);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package de.ossi.pojo;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Creates the generators of the threads and chunks of a template from one seed.
+ * By default, the generators are split off a {@link SplittableRandom}. With an algorithm of {@link RandomGeneratorFactory},
+ * e.g. L64X128MixRandom, every generator is created by the factory with a seed drawn from the seed generator.
+ * Either way, the generators are reproducible with the same seed.
+ */
+final class RandomEngine {
+
+    //guarded by itself, only used to derive the generators and seeds
+    private final SplittableRandom seedRandom;
+    //null, if the generators are split off the seed generator
+    private final RandomGeneratorFactory<?> factory;
+
+    private RandomEngine(SplittableRandom seedRandom, RandomGeneratorFactory<?> factory) {
+        this.seedRandom = seedRandom;
+        this.factory = factory;
+    }
+
+    /**
+     * @param seed      null for a random seed
+     * @param algorithm null for {@link SplittableRandom}
+     * @throws IllegalArgumentException if the algorithm is unknown
+     */
+    static RandomEngine of(Long seed, String algorithm) {
+        SplittableRandom seedRandom = seed != null ? new SplittableRandom(seed) : new SplittableRandom();
+        return new RandomEngine(seedRandom, algorithm != null ? RandomGeneratorFactory.of(algorithm) : null);
+    }
+
+    /**
+     * A new engine with the same algorithm, e.g. to derive the generators of a parallel generation from its own seed.
+     */
+    RandomEngine withSeed(long seed) {
+        return new RandomEngine(new SplittableRandom(seed), factory);
+    }
+
+    /**
+     * The next independent generator, e.g. for a new thread.
+     */
+    RandomGenerator nextGenerator() {
+        synchronized (seedRandom) {
+            return factory != null ? factory.create(seedRandom.nextLong()) : seedRandom.split();
+        }
+    }
+
+    /**
+     * A generator, which only depends on the given seed, e.g. for a shared instance.
+     */
+    RandomGenerator generator(long seed) {
+        return factory != null ? factory.create(seed) : new SplittableRandom(seed);
+    }
+
+    long nextSeed() {
+        synchronized (seedRandom) {
+            return seedRandom.nextLong();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package de.ossi.pojo;
+
+/**
+ * Random strings of a length range, whose characters are drawn uniformly from an alphabet.
+ * The characters are written into the reusable buffer of the {@link GenerationContext},
+ * so the only allocation per string is the string itself.
+ *
+ * @param minLength the minimal length, inclusive
+ * @param maxLength the maximal length, inclusive
+ * @param alphabet  the characters to draw from
+ */
+record RandomStrings(int minLength, int maxLength, String alphabet) {
+
+    static final String ALPHANUMERIC = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+
+    RandomStrings {
+        if (minLength < 0 || maxLength < minLength) {
+            throw new IllegalArgumentException("The length range must not be negative and min must not be greater than max.");
+        }
+        if (alphabet.isEmpty()) {
+            throw new IllegalArgumentException("The alphabet can not be empty.");
+        }
+    }
+
+    String next(GenerationContext context) {
+        int length = minLength == maxLength ? minLength : context.random().nextInt(minLength, maxLength + 1);
+        char[] buffer = context.charBuffer(length);
+        for (int i = 0; i < length; i++) {
+            buffer[i] = alphabet.charAt(context.random().nextInt(alphabet.length()));
+        }
+        return new String(buffer, 0, length);
+    }
+}
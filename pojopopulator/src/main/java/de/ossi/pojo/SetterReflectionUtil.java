@@ -0,0 +1,72 @@
+package de.ossi.pojo;
+
+import lombok.NonNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+public class SetterReflectionUtil {
+
+    /**
+     * Scans the public methods of the bean class for setters with the given prefix and exactly one argument.
+     * The property name of each setter is derived once while scanning.
+     * If the strategy is {@link AccessStrategy#METHOD_HANDLE}, every setter is bound to a {@link MethodHandle}.
+     * Setters which cannot be bound fall back to Reflection.
+     */
+    static List<Setter> getAllSetters(Class<?> beanClass, @NonNull String setterPrefix, @NonNull AccessStrategy strategy) {
+        Predicate<Method> withPrefix = m -> m.getName().startsWith(setterPrefix);
+        Predicate<Method> withOneArgument = m -> m.getParameterCount() == 1;
+        //without a prefix methods like Object#wait(long) would be matched as well
+        Predicate<Method> notFromObject = m -> m.getDeclaringClass() != Object.class;
+        return Arrays.stream(beanClass.getMethods())
+                .filter(withPrefix.and(withOneArgument).and(notFromObject))
+                .map(m -> toSetter(m, setterPrefix, strategy))
+                .toList();
+    }
+
+    /**
+     * Binds a single setter, which is already known, e.g. from a snapshot.
+     */
+    static Setter toSetter(Method setter, String setterPrefix, AccessStrategy strategy) {
+        return new Setter(setter.getParameterTypes()[0], setter.getGenericParameterTypes()[0], setter, toPropertyName(setter.getName(), setterPrefix),
+                bind(setter, strategy));
+    }
+
+    /**
+     * Tries to find the property name from the name of its setter method name.
+     * Presumes, that the setter method has a SETTER_PREFIX followed by an upper case letter followed by the name of the property.
+     */
+    static String toPropertyName(String setterName, String setterPrefix) {
+        String nameWithoutSetPrefix = setterName.substring(setterPrefix.length());
+        return Character.toLowerCase(nameWithoutSetPrefix.charAt(0)) + nameWithoutSetPrefix.substring(1);
+    }
+
+    private static MethodHandle bind(Method setter, AccessStrategy strategy) {
+        if (strategy == AccessStrategy.METHOD_HANDLE) {
+            try {
+                //the return value is dropped, so fluent setters can be bound as well
+                MethodType setterType = MethodType.methodType(void.class, Object.class, setter.getParameterTypes()[0]);
+                return MethodHandles.publicLookup().unreflect(setter).asType(setterType);
+            } catch (IllegalAccessException e) {
+                //e.g. a public setter declared in a non-public superclass
+            }
+        }
+        setter.trySetAccessible();
+        return null;
+    }
+
+    /**
+     * @param genericType the type of the property with its type arguments, e.g. List&lt;String&gt;, if known. Otherwise, the same as the type.
+     * @param setter the setter method or null, if the setter was generated at compile time or a field is written directly
+     * @param handle the setter bound as (Object, type)void or null, if the setter is invoked per Reflection.
+     *               Primitive types are kept, so the setter can be invoked without boxing.
+     */
+    record Setter(Class<?> type, Type genericType, Method setter, String propertyName, MethodHandle handle) {
+    }
+}
@@ -0,0 +1,70 @@
+package de.ossi.pojo;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded pool of nested beans, which are shared by all beans made with the same template.
+ * The instances are made lazily on first use. Every instance is made with its own generator derived from the seed,
+ * so the pool is deterministic regardless of the thread, which makes an instance first.
+ * A parallel generation uses its own pools, whose seeds are derived from the seed of the generation,
+ * so its beans are reproducible with that seed alone.
+ */
+final class SharedInstances implements ValueSource {
+
+    private static final long GOLDEN_GAMMA = 0x9E37_79B9_7F4A_7C15L;
+
+    private final PopulatorTemplate<?> template;
+    private final RandomEngine randomEngine;
+    private final long seed;
+    //distinguishes the pools of the same template factory in a scope, assigned in the deterministic order of the resolution
+    private final int poolIndex;
+    private final AtomicReferenceArray<Object> instances;
+
+    SharedInstances(PopulatorTemplate<?> template, RandomEngine randomEngine, long seed, int poolIndex, int count) {
+        this.template = template;
+        this.randomEngine = randomEngine;
+        this.seed = seed;
+        this.poolIndex = poolIndex;
+        this.instances = new AtomicReferenceArray<>(count);
+    }
+
+    @Override
+    public Object next(GenerationContext context) {
+        Scope scope = context.sharedScope();
+        if (scope == null) {
+            return next(context, instances, seed);
+        }
+        long scopedSeed = scope.seed() + (poolIndex + 1) * GOLDEN_GAMMA;
+        return next(context, scope.instances(this), scopedSeed);
+    }
+
+    private Object next(GenerationContext context, AtomicReferenceArray<Object> instances, long seed) {
+        int index = context.random().nextInt(instances.length());
+        Object instance = instances.get(index);
+        if (instance == null) {
+            instance = template.make(new GenerationContext(randomEngine.generator(seed + index), context.sharedScope()));
+            if (!instances.compareAndSet(index, null, instance)) {
+                instance = instances.get(index);
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * The pools of one parallel generation, which are shared by all of its chunks.
+     *
+     * @param seed the seed of the generation
+     */
+    record Scope(long seed, Map<SharedInstances, AtomicReferenceArray<Object>> pools) {
+
+        Scope(long seed) {
+            this(seed, new ConcurrentHashMap<>());
+        }
+
+        private AtomicReferenceArray<Object> instances(SharedInstances sharedInstances) {
+            return pools.computeIfAbsent(sharedInstances, s -> new AtomicReferenceArray<>(s.instances.length()));
+        }
+    }
+}
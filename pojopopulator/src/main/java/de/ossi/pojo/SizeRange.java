@@ -0,0 +1,23 @@
+package de.ossi.pojo;
+
+/**
+ * The range of the sizes of generated collections, maps and arrays.
+ * The size is uniformly distributed and drawn from the generator of the {@link GenerationContext}, so it is reproducible with a seed.
+ *
+ * @param min the minimal size, inclusive
+ * @param max the maximal size, inclusive
+ */
+record SizeRange(int min, int max) {
+
+    static final SizeRange DEFAULT = new SizeRange(1, 1);
+
+    SizeRange {
+        if (min < 0 || max < min) {
+            throw new IllegalArgumentException("The size range must not be negative and min must not be greater than max.");
+        }
+    }
+
+    int next(GenerationContext context) {
+        return min == max ? min : context.random().nextInt(min, max + 1);
+    }
+}
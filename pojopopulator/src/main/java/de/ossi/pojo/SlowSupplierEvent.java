@@ -0,0 +1,32 @@
+package de.ossi.pojo;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for a supplier call, which takes at least {@link #THRESHOLD_NANOS}.
+ * Only emitted for templates with {@link PopulatorMetrics}, because only then the suppliers are measured.
+ * The event is created after the call, so fast calls don't allocate an event.
+ */
+@Name("de.ossi.pojo.SlowSupplier")
+@Label("Slow Supplier")
+@Category("PojoPopulator")
+@Description("A property supplier call exceeding the threshold")
+final class SlowSupplierEvent extends Event {
+
+    static final long THRESHOLD_NANOS = 1_000_000;
+
+    @Label("Bean Class")
+    Class<?> beanClass;
+
+    @Label("Property Name")
+    String propertyName;
+
+    @Label("Supplier Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long supplierDuration;
+}
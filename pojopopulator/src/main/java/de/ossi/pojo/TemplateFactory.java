@@ -0,0 +1,286 @@
+package de.ossi.pojo;
+
+import de.ossi.pojo.BeanPlan.Component;
+import de.ossi.pojo.SetterReflectionUtil.Setter;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.util.*;
+
+/**
+ * Resolves the frozen options of a {@link PojoPopulator} against the setters of a bean and its nested beans.
+ * Nested beans get one template per class and depth, so self-referential types like a supervisor of an employee
+ * end at the max depth and every template is immutable.
+ * With cycle detection, the templates are also distinguished by the classes of the beans above and a nested bean,
+ * whose class is already on the path from the root bean, is not populated. So cycles like A to B to A end at the repeated class.
+ */
+final class TemplateFactory {
+
+    private final Map<String, ValueSource> suppliersByName;
+    private final Map<Type, ValueSource> suppliersByType;
+    private final Map<Type, ValueSource> defaultSuppliers;
+    private final Set<String> uniqueNames;
+    private final Set<Class<?>> uniqueTypes;
+    private final String setterPrefix;
+    private final boolean fieldAccess;
+    private final Map<String, SizeRange> sizesByName;
+    private final SizeRange defaultSize;
+    private final int maxDepth;
+    private final boolean cycleDetection;
+    private final Map<Class<?>, Integer> sharedInstanceCounts;
+    private final RandomEngine randomEngine;
+    //null, if the templates are not measured
+    private final PopulatorMetrics metrics;
+
+    private final Map<TemplateKey, PopulatorTemplate<?>> templates = new HashMap<>();
+    private final Map<Class<?>, SharedInstances> sharedInstances = new HashMap<>();
+    private final Map<UniqueKey, ValueSource> uniqueSources = new HashMap<>();
+
+    TemplateFactory(Map<String, ValueSource> suppliersByName, Map<Type, ValueSource> suppliersByType, Map<Type, ValueSource> defaultSuppliers,
+                    Set<String> uniqueNames, Set<Class<?>> uniqueTypes, String setterPrefix, boolean fieldAccess, Map<String, SizeRange> sizesByName,
+                    SizeRange defaultSize, int maxDepth, boolean cycleDetection,
+                    Map<Class<?>, Integer> sharedInstanceCounts, RandomEngine randomEngine, PopulatorMetrics metrics) {
+        this.suppliersByName = Map.copyOf(suppliersByName);
+        this.suppliersByType = Map.copyOf(suppliersByType);
+        this.defaultSuppliers = defaultSuppliers;
+        this.uniqueNames = Set.copyOf(uniqueNames);
+        this.uniqueTypes = Set.copyOf(uniqueTypes);
+        this.setterPrefix = setterPrefix;
+        this.fieldAccess = fieldAccess;
+        this.sizesByName = Map.copyOf(sizesByName);
+        this.defaultSize = defaultSize;
+        this.maxDepth = maxDepth;
+        this.cycleDetection = cycleDetection;
+        this.sharedInstanceCounts = Map.copyOf(sharedInstanceCounts);
+        this.randomEngine = randomEngine;
+        this.metrics = metrics;
+    }
+
+    <T> PopulatorTemplate<T> create(Class<T> beanClass) {
+        return create(beanClass, 0, Set.of(), null);
+    }
+
+    /**
+     * Creates a template for lazy beans implementing the interface.
+     * The suppliers are resolved for the getters of the interface like for the setters of a bean.
+     */
+    <T> LazyTemplate<T> createLazy(Class<T> interfaceClass) {
+        if (!interfaceClass.isInterface()) {
+            throw new IllegalArgumentException("Lazy beans can only be created for interfaces, but " + interfaceClass.getName() + " is not.");
+        }
+        BeanPlan plan = BeanPlan.of(interfaceClass, metrics);
+        List<Method> getters = plan.getters();
+        ValueSource[] suppliers = new ValueSource[getters.size()];
+        for (int i = 0; i < suppliers.length; i++) {
+            Method getter = getters.get(i);
+            String propertyName = LazyTemplate.toPropertyName(getter);
+            ValueSource supplier = getPropertySupplier(propertyName, getter.getReturnType(), getter.getGenericReturnType(), 0, Set.of(interfaceClass), null);
+            suppliers[i] = supplier != null && metrics != null ? TimedSource.of(supplier, metrics, interfaceClass, propertyName) : supplier;
+        }
+        return new LazyTemplate<>(interfaceClass, plan.abstractMethods(), getters, suppliers, setterPrefix, randomEngine);
+    }
+
+    /**
+     * @param ancestors  the classes of the beans above on the path from the root bean. Always empty without cycle detection.
+     * @param sharedType the type of the shared instances, which are made by this template, or null.
+     *                   Properties of this type are not populated with shared instances to avoid cycles.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> PopulatorTemplate<T> create(Class<T> beanClass, int depth, Set<Class<?>> ancestors, Class<?> sharedType) {
+        TemplateKey key = new TemplateKey(beanClass, depth, ancestors, sharedType);
+        PopulatorTemplate<T> template = (PopulatorTemplate<T>) templates.get(key);
+        if (template == null) {
+            template = createTemplate(beanClass, depth, cycleDetection ? withClass(ancestors, beanClass) : ancestors, sharedType);
+            templates.put(key, template);
+        }
+        return template;
+    }
+
+    private static Set<Class<?>> withClass(Set<Class<?>> ancestors, Class<?> beanClass) {
+        Set<Class<?>> path = new HashSet<>(ancestors);
+        path.add(beanClass);
+        return Set.copyOf(path);
+    }
+
+    /**
+     * @param path the classes of the bean and of the beans above, if cycles are detected
+     */
+    private <T> PopulatorTemplate<T> createTemplate(Class<T> beanClass, int depth, Set<Class<?>> path, Class<?> sharedType) {
+        BeanPlan plan = BeanPlan.of(beanClass, metrics);
+        if (plan.isPopulatedByConstructor()) {
+            return createConstructorTemplate(beanClass, plan, depth, path, sharedType);
+        }
+        List<PropertyBinding> bindings = new ArrayList<>();
+        List<String> propertyNames = new ArrayList<>();
+        for (Setter setter : fieldAccess ? plan.fields() : plan.setters(setterPrefix)) {
+            ValueSource supplier = getPropertySupplier(setter.propertyName(), setter.type(), setter.genericType(), depth, path, sharedType);
+            if (supplier != null) {
+                bindings.add(bind(beanClass, setter, supplier));
+                propertyNames.add(setter.propertyName());
+            }
+        }
+        return new PopulatorTemplate<>(beanClass, plan, bindings.toArray(PropertyBinding[]::new), null, propertyNames.toArray(String[]::new),
+                randomEngine, metrics);
+    }
+
+    /**
+     * Resolves a supplier for every parameter of the constructor with the same rules as for setters.
+     */
+    private <T> PopulatorTemplate<T> createConstructorTemplate(Class<T> beanClass, BeanPlan plan, int depth, Set<Class<?>> path,
+                                                                 Class<?> sharedType) {
+        List<Component> components = plan.components();
+        ValueSource[] sources = new ValueSource[components.size()];
+        Class<?>[] types = new Class<?>[components.size()];
+        String[] propertyNames = new String[components.size()];
+        for (int i = 0; i < sources.length; i++) {
+            Component component = components.get(i);
+            ValueSource supplier = getPropertySupplier(component.name(), component.type(), component.genericType(), depth, path, sharedType);
+            sources[i] = supplier != null && metrics != null ? TimedSource.of(supplier, metrics, beanClass, component.name()) : supplier;
+            types[i] = component.type();
+            propertyNames[i] = component.name();
+        }
+        try {
+            ConstructorBinding constructor = ConstructorBinding.of(plan.constructorHandle(), types, sources);
+            return new PopulatorTemplate<>(beanClass, plan, new PropertyBinding[0], constructor, propertyNames, randomEngine, metrics);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("The constructor of " + beanClass.getName() + " can not be accessed.", e);
+        }
+    }
+
+    /**
+     * With metrics, the supplier and the binding are decorated with measuring ones. Otherwise, the binding is used as it is.
+     */
+    private PropertyBinding bind(Class<?> beanClass, Setter setter, ValueSource supplier) {
+        if (metrics == null) {
+            return PropertyBinding.of(setter, supplier);
+        }
+        ValueSource timedSupplier = TimedSource.of(supplier, metrics, beanClass, setter.propertyName());
+        return new PropertyBinding.TimedBinding(PropertyBinding.of(setter, timedSupplier), metrics, beanClass, setter.propertyName());
+    }
+
+    /**
+     * Search for a matching property supplier.
+     * If a supplier matching the property name, then this one will be used.
+     * If unique values are requested for the property name, then the unique source of the property name will be used.
+     * If a supplier matching the class is found, then this one will be used.
+     * If unique values are requested for the class, then the unique source of the class will be used.
+     * If shared instances of the class are requested, then these will be used.
+     * If a default supplier matching the class is found, then this one will be used.
+     * If the class is a collection, map or array and suppliers for its elements are found, then a supplier of filled containers will be used.
+     * If nested beans are allowed at this depth and the class is a bean, which is not on the path with cycle detection, then a nested template will be used.
+     * If not supplier matching is found, null is returned.
+     */
+    private ValueSource getPropertySupplier(String propertyName, Class<?> type, Type genericType, int depth, Set<Class<?>> path,
+                                            Class<?> sharedType) {
+        //the type of the field is irrelevant, because there can only be one field with the same name in the class
+        ValueSource equalFieldNameSupplier = suppliersByName.get(propertyName);
+        if (equalFieldNameSupplier != null) {
+            return equalFieldNameSupplier;
+        }
+        if (uniqueNames.contains(propertyName)) {
+            return getUniqueSource(propertyName, type);
+        }
+        return getTypeSupplier(type, genericType, sizesByName.getOrDefault(propertyName, defaultSize), depth, path, sharedType);
+    }
+
+    /**
+     * Search for a supplier matching the class, e.g. for a property or for the elements of a collection.
+     *
+     * @see #getPropertySupplier(String, Class, Type, int, Set, Class)
+     */
+    private ValueSource getTypeSupplier(Class<?> type, Type genericType, SizeRange sizes, int depth, Set<Class<?>> path, Class<?> sharedType) {
+        ValueSource equalTypeSupplier = suppliersByType.get(type);
+        if (equalTypeSupplier != null) {
+            return equalTypeSupplier;
+        }
+        if (uniqueTypes.contains(type)) {
+            return getUniqueSource(null, type);
+        }
+        Integer sharedInstanceCount = sharedInstanceCounts.get(type);
+        if (sharedInstanceCount != null && type != sharedType) {
+            return getSharedInstances(type, sharedInstanceCount);
+        }
+        ValueSource defaultSupplier = defaultSuppliers.get(type);
+        if (defaultSupplier != null) {
+            return defaultSupplier;
+        }
+        ValueSource containerSupplier = getContainerSupplier(type, genericType, sizes, depth, path, sharedType);
+        if (containerSupplier != null) {
+            return containerSupplier;
+        }
+        if (depth < maxDepth && !path.contains(type) && BeanPlan.of(type).isNestable()) {
+            return create(type, depth + 1, path, sharedType)::make;
+        }
+        return null;
+    }
+
+    /**
+     * The elements are resolved by their type, suppliers by name only apply to the container itself.
+     * Returns null, if the type is no supported container or no supplier is found for its elements.
+     */
+    private ValueSource getContainerSupplier(Class<?> type, Type genericType, SizeRange sizes, int depth, Set<Class<?>> path, Class<?> sharedType) {
+        if (type.isArray()) {
+            Type componentType = genericType instanceof GenericArrayType arrayType ? arrayType.getGenericComponentType() : type.getComponentType();
+            ValueSource element = getTypeSupplier(type.getComponentType(), componentType, sizes, depth, path, sharedType);
+            return element != null ? ContainerSources.array(type.getComponentType(), element, sizes) : null;
+        }
+        if (ContainerSources.isCollection(type)) {
+            ValueSource element = getTypeArgumentSupplier(genericType, 0, sizes, depth, path, sharedType);
+            return element != null ? ContainerSources.collection(type, element, sizes) : null;
+        }
+        if (ContainerSources.isMap(type)) {
+            ValueSource key = getTypeArgumentSupplier(genericType, 0, sizes, depth, path, sharedType);
+            ValueSource value = getTypeArgumentSupplier(genericType, 1, sizes, depth, path, sharedType);
+            return key != null && value != null ? ContainerSources.map(type, key, value, sizes) : null;
+        }
+        return null;
+    }
+
+    /**
+     * Raw types and type variables have no known type argument, wildcards are resolved to their upper bound.
+     */
+    private ValueSource getTypeArgumentSupplier(Type genericType, int index, SizeRange sizes, int depth, Set<Class<?>> path,
+                                                Class<?> sharedType) {
+        if (!(genericType instanceof ParameterizedType parameterizedType)) {
+            return null;
+        }
+        Type argument = parameterizedType.getActualTypeArguments()[index];
+        if (argument instanceof WildcardType wildcardType) {
+            argument = wildcardType.getUpperBounds()[0];
+        }
+        if (argument instanceof Class<?> argumentClass) {
+            return getTypeSupplier(argumentClass, argumentClass, sizes, depth, path, sharedType);
+        }
+        if (argument instanceof ParameterizedType argumentType && argumentType.getRawType() instanceof Class<?> argumentClass) {
+            return getTypeSupplier(argumentClass, argumentType, sizes, depth, path, sharedType);
+        }
+        return null;
+    }
+
+    private SharedInstances getSharedInstances(Class<?> type, int count) {
+        SharedInstances instances = sharedInstances.get(type);
+        if (instances == null) {
+            instances = new SharedInstances(create(type, 1, Set.of(), type), randomEngine, randomEngine.nextSeed(), sharedInstances.size(), count);
+            sharedInstances.put(type, instances);
+        }
+        return instances;
+    }
+
+    /**
+     * One unique source per property name or class is shared by all templates of this factory,
+     * so a property of nested beans at any depth or of the elements of containers never repeats a value.
+     * Primitive types share the source with their wrapper.
+     *
+     * @param propertyName the name of the unique property or null for all properties of the type
+     */
+    private ValueSource getUniqueSource(String propertyName, Class<?> type) {
+        Class<?> wrapperType = MethodType.methodType(type).wrap().returnType();
+        return uniqueSources.computeIfAbsent(new UniqueKey(propertyName, wrapperType), key -> UniqueValues.of(type, randomEngine.nextSeed()));
+    }
+
+    private record UniqueKey(String propertyName, Class<?> type) {
+    }
+
+    private record TemplateKey(Class<?> beanClass, int depth, Set<Class<?>> ancestors, Class<?> sharedType) {
+    }
+}
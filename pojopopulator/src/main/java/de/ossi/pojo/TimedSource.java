@@ -0,0 +1,82 @@
+package de.ossi.pojo;
+
+import de.ossi.pojo.ValueSource.*;
+
+/**
+ * Decorates the supplier of a property to report its latency to the {@link PopulatorMetrics} and as {@link SlowSupplierEvent}.
+ * The primitive specializations are kept, so measuring doesn't add boxing.
+ */
+final class TimedSource {
+
+    private final PopulatorMetrics metrics;
+    private final Class<?> beanClass;
+    private final String propertyName;
+
+    private TimedSource(PopulatorMetrics metrics, Class<?> beanClass, String propertyName) {
+        this.metrics = metrics;
+        this.beanClass = beanClass;
+        this.propertyName = propertyName;
+    }
+
+    static ValueSource of(ValueSource source, PopulatorMetrics metrics, Class<?> beanClass, String propertyName) {
+        TimedSource timed = new TimedSource(metrics, beanClass, propertyName);
+        if (source instanceof IntSource intSource) {
+            return (IntSource) c -> {
+                long start = System.nanoTime();
+                int value = intSource.nextInt(c);
+                timed.end(start);
+                return value;
+            };
+        }
+        if (source instanceof LongSource longSource) {
+            return (LongSource) c -> {
+                long start = System.nanoTime();
+                long value = longSource.nextLong(c);
+                timed.end(start);
+                return value;
+            };
+        }
+        if (source instanceof DoubleSource doubleSource) {
+            return (DoubleSource) c -> {
+                long start = System.nanoTime();
+                double value = doubleSource.nextDouble(c);
+                timed.end(start);
+                return value;
+            };
+        }
+        if (source instanceof FloatSource floatSource) {
+            return (FloatSource) c -> {
+                long start = System.nanoTime();
+                float value = floatSource.nextFloat(c);
+                timed.end(start);
+                return value;
+            };
+        }
+        if (source instanceof BooleanSource booleanSource) {
+            return (BooleanSource) c -> {
+                long start = System.nanoTime();
+                boolean value = booleanSource.nextBoolean(c);
+                timed.end(start);
+                return value;
+            };
+        }
+        return c -> {
+            long start = System.nanoTime();
+            Object value = source.next(c);
+            timed.end(start);
+            return value;
+        };
+    }
+
+    private void end(long start) {
+        long nanos = System.nanoTime() - start;
+        metrics.supplied(beanClass, propertyName, nanos);
+        if (nanos >= SlowSupplierEvent.THRESHOLD_NANOS) {
+            SlowSupplierEvent event = new SlowSupplierEvent();
+            event.beanClass = beanClass;
+            event.propertyName = propertyName;
+            event.supplierDuration = nanos;
+            event.commit();
+        }
+    }
+}
@@ -15,6 +15,20 @@ public class UncheckedUtil {
         };
     }
 
+    /**
+     * Returns the throwable as {@link RuntimeException}, wrapping it if it is a checked exception.
+     * Errors are rethrown directly.
+     */
+    public static RuntimeException asRuntimeException(Throwable throwable) {
+        if (throwable instanceof Error error) {
+            throw error;
+        }
+        if (throwable instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new RuntimeException(throwable);
+    }
+
     @FunctionalInterface
     public interface ThrowingConsumer<T, E extends Exception> {
         void accept(T t) throws E;
@@ -0,0 +1,87 @@
+package de.ossi.pojo;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static de.ossi.pojo.ValueSource.*;
+
+/**
+ * Unique values for keys and columns with unique constraints.
+ * Every source draws indexes from its own counter and maps them with a keyed Feistel network,
+ * which is a bijection, so the values are unique without remembering the values already generated.
+ * The values look random, but the memory is constant regardless of the number of values.
+ * The counter is shared by all threads, so the values are unique within the source also in parallel generation,
+ * but which bean gets which value depends on the scheduling of the threads.
+ */
+final class UniqueValues {
+
+    private static final int ROUNDS = 4;
+    private static final long INT_VALUES = 1L << Integer.SIZE;
+
+    private UniqueValues() {
+    }
+
+    /**
+     * Creates a new unique source for the type.
+     * Supported are int, long, String and UUID. Ints are exhausted after 2<sup>32</sup> values.
+     *
+     * @param key the key of the permutation, different keys give different orders of the values
+     */
+    static ValueSource of(Class<?> type, long key) {
+        AtomicLong counter = new AtomicLong();
+        if (type == int.class || type == Integer.class) {
+            return (IntSource) c -> permute32(nextIntIndex(counter), key);
+        }
+        if (type == long.class || type == Long.class) {
+            return (LongSource) c -> permute64(counter.getAndIncrement(), key);
+        }
+        if (type == String.class) {
+            //an unsigned base 36 number has at most 13 characters
+            return c -> Long.toUnsignedString(permute64(counter.getAndIncrement(), key), Character.MAX_RADIX);
+        }
+        if (type == UUID.class) {
+            return c -> new UUID(key, permute64(counter.getAndIncrement(), key));
+        }
+        throw new IllegalArgumentException("Unique values are not supported for the type " + type.getName() + ".");
+    }
+
+    private static long nextIntIndex(AtomicLong counter) {
+        long index = counter.getAndIncrement();
+        if (index >= INT_VALUES) {
+            throw new IllegalStateException("All " + INT_VALUES + " unique int values are used.");
+        }
+        return index;
+    }
+
+    static long permute64(long index, long key) {
+        int left = (int) (index >>> Integer.SIZE);
+        int right = (int) index;
+        for (int round = 0; round < ROUNDS; round++) {
+            int next = left ^ mix(right, key, round);
+            left = right;
+            right = next;
+        }
+        return ((long) left << Integer.SIZE) | (right & 0xFFFF_FFFFL);
+    }
+
+    static int permute32(long index, long key) {
+        int left = (int) (index >>> Short.SIZE) & 0xFFFF;
+        int right = (int) index & 0xFFFF;
+        for (int round = 0; round < ROUNDS; round++) {
+            int next = (left ^ mix(right, key, round)) & 0xFFFF;
+            left = right;
+            right = next;
+        }
+        return (left << Short.SIZE) | right;
+    }
+
+    /**
+     * The round function doesn't need to be invertible, the Feistel network is a bijection anyway.
+     */
+    private static int mix(int half, long key, int round) {
+        long z = (half & 0xFFFF_FFFFL) + key + round * 0x9E37_79B9_7F4A_7C15L;
+        z = (z ^ (z >>> 33)) * 0xFF51_AFD7_ED55_8CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CE_B9FE_1A85_EC53L;
+        return (int) (z ^ (z >>> 33));
+    }
+}
@@ -0,0 +1,88 @@
+package de.ossi.pojo;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Internal form of all property suppliers.
+ * In contrast to a {@link Supplier} it can draw random values from the generator of the current thread or chunk.
+ * The primitive specializations are used to populate primitive setters without boxing.
+ */
+@FunctionalInterface
+interface ValueSource {
+
+    Object next(GenerationContext context);
+
+    static ValueSource of(Supplier<?> supplier) {
+        return context -> supplier.get();
+    }
+
+    static IntSource ofInt(IntSupplier supplier) {
+        return context -> supplier.getAsInt();
+    }
+
+    static LongSource ofLong(LongSupplier supplier) {
+        return context -> supplier.getAsLong();
+    }
+
+    static DoubleSource ofDouble(DoubleSupplier supplier) {
+        return context -> supplier.getAsDouble();
+    }
+
+    static BooleanSource ofBoolean(BooleanSupplier supplier) {
+        return context -> supplier.getAsBoolean();
+    }
+
+    @FunctionalInterface
+    interface IntSource extends ValueSource {
+        int nextInt(GenerationContext context);
+
+        @Override
+        default Object next(GenerationContext context) {
+            return nextInt(context);
+        }
+    }
+
+    @FunctionalInterface
+    interface LongSource extends ValueSource {
+        long nextLong(GenerationContext context);
+
+        @Override
+        default Object next(GenerationContext context) {
+            return nextLong(context);
+        }
+    }
+
+    @FunctionalInterface
+    interface DoubleSource extends ValueSource {
+        double nextDouble(GenerationContext context);
+
+        @Override
+        default Object next(GenerationContext context) {
+            return nextDouble(context);
+        }
+    }
+
+    @FunctionalInterface
+    interface FloatSource extends ValueSource {
+        float nextFloat(GenerationContext context);
+
+        @Override
+        default Object next(GenerationContext context) {
+            return nextFloat(context);
+        }
+    }
+
+    @FunctionalInterface
+    interface BooleanSource extends ValueSource {
+        boolean nextBoolean(GenerationContext context);
+
+        @Override
+        default Object next(GenerationContext context) {
+            return nextBoolean(context);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package de.ossi.pojo;
+
+public record Address(String street, String city, int zipCode, Employee resident) {
+}
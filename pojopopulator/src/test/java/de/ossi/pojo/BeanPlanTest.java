@@ -0,0 +1,46 @@
+package de.ossi.pojo;
+
+import de.ossi.pojo.SetterReflectionUtil.Setter;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BeanPlanTest {
+
+    @Test
+    void settersShouldOnlyBeScannedOncePerPrefix() {
+        //given
+        List<Setter> setters = BeanPlan.of(Employee.class).setters("set");
+        //when
+        List<Setter> cachedSetters = BeanPlan.of(Employee.class).setters("set");
+        //then
+        assertThat(cachedSetters).isSameAs(setters);
+    }
+
+    @Test
+    void settersShouldBeCachedPerPrefix() {
+        //given
+        //when
+        List<Setter> setters = BeanPlan.of(Employee.class).setters("setze");
+        //then
+        assertThat(setters)
+                .extracting(Setter::propertyName)
+                .containsExactly("differentPrefix");
+    }
+
+    @Test
+    void gettersOfInterfaceShouldOnlyBeResolvedOnce() {
+        //given
+        List<Method> getters = BeanPlan.of(LazyEmployee.class).getters();
+        //when
+        List<Method> cachedGetters = BeanPlan.of(LazyEmployee.class).getters();
+        //then
+        assertThat(cachedGetters).isSameAs(getters);
+        assertThat(getters)
+                .extracting(Method::getName)
+                .containsExactlyInAnyOrder("getFirstname", "getLastname", "getId", "getSalary", "isActive", "getStartDay");
+    }
+}
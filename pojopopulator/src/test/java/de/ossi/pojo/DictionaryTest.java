@@ -0,0 +1,91 @@
+package de.ossi.pojo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DictionaryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void linesShouldBeIndexedWithoutEmptyLinesAndLineBreaks() throws IOException {
+        //given
+        Path file = Files.writeString(tempDir.resolve("cities.txt"), "Köln\r\n\nBerlin\nMünchen", StandardCharsets.UTF_8);
+        //when
+        Dictionary dictionary = Dictionary.of(file);
+        //then
+        assertThat(dictionary.size()).isEqualTo(3);
+        assertThat(dictionary)
+                .extracting(d -> d.get(0), d -> d.get(1), d -> d.get(2))
+                .containsExactly("Köln", "Berlin", "München");
+    }
+
+    @Test
+    void dictionaryShouldBeSharedPerFile() throws IOException {
+        //given
+        Path file = Files.writeString(tempDir.resolve("names.txt"), "Anna\nBen\n");
+        //when
+        Dictionary dictionary = Dictionary.of(file);
+        //then
+        assertThat(Dictionary.of(tempDir.resolve("./names.txt"))).isSameAs(dictionary);
+    }
+
+    @Test
+    void linesShouldBeDecodedIntoBufferOfContext() throws IOException {
+        //given
+        Path file = Files.writeString(tempDir.resolve("streets.txt"), "Königsallee\nZeil\n", StandardCharsets.UTF_8);
+        Dictionary dictionary = Dictionary.of(file);
+        GenerationContext context = new GenerationContext(new SplittableRandom(42));
+        //when
+        //then
+        assertThat(dictionary)
+                .extracting(d -> d.get(0, context), d -> d.get(1, context))
+                .containsExactly("Königsallee", "Zeil");
+    }
+
+    @Test
+    void changedFileShouldBeMappedAgain() throws IOException {
+        //given
+        Path file = Files.writeString(tempDir.resolve("colors.txt"), "red\ngreen\n");
+        Dictionary dictionary = Dictionary.of(file);
+        //when
+        Files.writeString(file, "blue\n");
+        //then
+        Dictionary changedDictionary = Dictionary.of(file);
+        assertThat(changedDictionary).isNotSameAs(dictionary);
+        assertThat(changedDictionary)
+                .extracting(Dictionary::size, d -> d.get(0))
+                .containsExactly(1, "blue");
+    }
+
+    @Test
+    void beanShouldBePopulatedFromDictionary() throws IOException {
+        //given
+        Path file = Files.writeString(tempDir.resolve("firstnames.txt"), "Anna\nBen\nCarla\n");
+        //when
+        Employee employee = PojoPopulator.create(Employee.class, populator -> populator.withDictionary("firstname", file));
+        //then
+        assertThat(employee.getFirstname()).isIn("Anna", "Ben", "Carla");
+    }
+
+    @Test
+    void emptyOrMissingFileShouldThrowException() throws IOException {
+        //given
+        Path emptyFile = Files.writeString(tempDir.resolve("empty.txt"), "\n\n");
+        //when
+        //then
+        assertThatIllegalArgumentException().isThrownBy(() -> Dictionary.of(emptyFile))
+                .withMessageContaining("no lines");
+        assertThatExceptionOfType(UncheckedIOException.class).isThrownBy(() -> Dictionary.of(tempDir.resolve("missing.txt")));
+    }
+}
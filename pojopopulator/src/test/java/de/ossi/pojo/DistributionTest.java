@@ -0,0 +1,99 @@
+package de.ossi.pojo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DistributionTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    void weightedValuesShouldBeSampledProportionally() {
+        //given
+        Distribution<String> distribution = Distribution.weighted(Map.of("hot", 8, "warm", 2, "cold", 0));
+        SplittableRandom random = new SplittableRandom(42);
+        //when
+        Map<String, Long> counts = Stream.generate(() -> distribution.sample(random)).limit(SAMPLES)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        //then
+        assertThat(counts).containsOnlyKeys("hot", "warm");
+        assertThat(counts.get("hot") / (double) SAMPLES).isCloseTo(0.8, within(0.01));
+    }
+
+    @Test
+    void zipfShouldPreferLowRanks() {
+        //given
+        Distribution<Integer> distribution = Distribution.zipf(1000, 1.0);
+        SplittableRandom random = new SplittableRandom(42);
+        //when
+        int[] counts = new int[1001];
+        for (int i = 0; i < SAMPLES; i++) {
+            counts[distribution.sample(random)]++;
+        }
+        //then
+        assertThat(counts[0]).isZero();
+        assertThat(counts[1]).isGreaterThan(counts[2]).isGreaterThan(counts[10]);
+        //the probability of rank 1 is 1 / H(1000), about 0.134
+        assertThat(counts[1] / (double) SAMPLES).isCloseTo(0.134, within(0.01));
+    }
+
+    @Test
+    void histogramValuesShouldBeWithinBuckets() {
+        //given
+        Distribution<Double> distribution = Distribution.histogram(new double[]{0, 10, 100}, new long[]{0, 5});
+        SplittableRandom random = new SplittableRandom(42);
+        //when
+        List<Double> values = Stream.generate(() -> distribution.sample(random)).limit(1000).toList();
+        //then
+        assertThat(values).allSatisfy(value -> assertThat(value).isGreaterThanOrEqualTo(10).isLessThan(100));
+    }
+
+    @Test
+    void invalidWeightsShouldThrowException() {
+        //given
+        //when
+        //then
+        assertThatIllegalArgumentException().isThrownBy(() -> Distribution.weighted(Map.of()));
+        assertThatIllegalArgumentException().isThrownBy(() -> Distribution.weighted(Map.of("a", -1)));
+        assertThatIllegalArgumentException().isThrownBy(() -> Distribution.weighted(Map.of("a", 0)));
+        assertThatIllegalArgumentException().isThrownBy(() -> Distribution.histogram(new double[]{1, 0}, new long[]{1}));
+    }
+
+    @Test
+    void invalidZipfShouldThrowException() {
+        //given
+        //when
+        //then
+        assertThatIllegalArgumentException().isThrownBy(() -> Distribution.zipf(-1, 1.0))
+                .withMessageContaining("number of ranks");
+        assertThatIllegalArgumentException().isThrownBy(() -> Distribution.zipf(0, 1.0))
+                .withMessageContaining("number of ranks");
+        assertThatIllegalArgumentException().isThrownBy(() -> Distribution.zipf(List.of(), 1.0))
+                .withMessageContaining("number of ranks");
+        assertThatIllegalArgumentException().isThrownBy(() -> Distribution.zipf(10, -1.0))
+                .withMessageContaining("exponent");
+    }
+
+    @Test
+    void distributionShouldBeReproducibleWithSeed() {
+        //given
+        Distribution<String> distribution = Distribution.zipf(List.of("a", "b", "c", "d"), 1.2);
+        //when
+        List<Employee> employees1 = PojoPopulator.template(Employee.class, populator -> populator
+                .withValue("city", distribution)
+                .usingSeed(42)).makeMany(100);
+        List<Employee> employees2 = PojoPopulator.template(Employee.class, populator -> populator
+                .withValue("city", distribution)
+                .usingSeed(42)).makeMany(100);
+        //then
+        assertThat(employees1).extracting(Employee::getCity)
+                .containsExactlyElementsOf(employees2.stream().map(Employee::getCity).toList())
+                .contains("a", "d");
+    }
+}
@@ -0,0 +1,105 @@
+package de.ossi.pojo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class FixtureWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void beansShouldBeWrittenAsNdjson() throws IOException {
+        //given
+        Path file = tempDir.resolve("employees.ndjson");
+        //when
+        PojoPopulator.template(Employee.class, populator -> populator
+                        .usingNoDefaultSuppliers()
+                        .withValue("firstname", () -> "first \"name\"")
+                        .withValue("id", () -> 1))
+                .writer(FixtureFormat.NDJSON)
+                .write(file, 2);
+        //then
+        assertThat(Files.readAllLines(file))
+                .hasSize(2)
+                .allSatisfy(line -> assertThat(line)
+                        .startsWith("{")
+                        .endsWith("}")
+                        .contains("\"firstname\":\"first \\\"name\\\"\"")
+                        .contains("\"id\":1"));
+    }
+
+    @Test
+    void beansShouldBeWrittenAsCsv() throws IOException {
+        //given
+        Path file = tempDir.resolve("employees.csv");
+        //when
+        PojoPopulator.template(Employee.class, populator -> populator
+                        .usingNoDefaultSuppliers()
+                        .withValue("firstname", () -> "a,\"b\""))
+                .writer(FixtureFormat.CSV)
+                .write(file, 2);
+        //then
+        assertThat(Files.readAllLines(file))
+                .containsExactly("firstname", "\"a,\"\"b\"\"\"", "\"a,\"\"b\"\"\"");
+    }
+
+    @Test
+    void arraysShouldBeWrittenLikeLists() throws IOException {
+        //given
+        Path file = tempDir.resolve("teams.csv");
+        //when
+        PojoPopulator.template(Team.class, populator -> populator
+                        .usingNoDefaultSuppliers()
+                        .withInt(() -> 7)
+                        .withSize(2, 2))
+                .writer(FixtureFormat.CSV)
+                .write(file, 1);
+        //then
+        assertThat(Files.readAllLines(file))
+                .containsExactly("levels", "\"[7, 7]\"");
+    }
+
+    @Test
+    void beansShouldBeWrittenWithGzipAndSmallFlushSize() throws IOException {
+        //given
+        Path file = tempDir.resolve("employees.ndjson.gz");
+        //when
+        long written = PojoPopulator.template(Employee.class, PojoPopulator::usingRandomDefaultValues)
+                .writer(FixtureFormat.NDJSON)
+                .usingGzip()
+                .withFlushSize(64)
+                .write(file, 1000);
+        //then
+        List<String> lines;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            lines = reader.lines().toList();
+        }
+        assertThat(written).isEqualTo(1000);
+        assertThat(lines)
+                .hasSize(1000)
+                .allSatisfy(line -> assertThat(line).startsWith("{\"").endsWith("}"));
+    }
+
+    @Test
+    void tooSmallFlushSizeShouldThrowException() {
+        //given
+        FixtureWriter<Employee> writer = PojoPopulator.template(Employee.class).writer(FixtureFormat.CSV);
+        //when
+        //then
+        assertThatIllegalArgumentException().isThrownBy(() -> writer.withFlushSize(1))
+                .withMessageContaining("flush size");
+    }
+}
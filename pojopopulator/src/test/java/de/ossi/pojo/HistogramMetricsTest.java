@@ -0,0 +1,86 @@
+package de.ossi.pojo;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HistogramMetricsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void metricsShouldBeRecordedPerClassAndProperty() {
+        //given
+        HistogramMetrics metrics = new HistogramMetrics();
+        PopulatorTemplate<Employee> template = PojoPopulator.template(Employee.class, populator -> populator
+                .withValue("firstname", () -> "firstname1")
+                .usingMetrics(metrics));
+        //when
+        template.makeMany(100);
+        //then
+        assertThat(metrics.instantiation(Employee.class).count()).isEqualTo(100);
+        assertThat(metrics.supplier(Employee.class, "firstname").count()).isEqualTo(100);
+        assertThat(metrics.property(Employee.class, "salary").count()).isEqualTo(100);
+        assertThat(metrics.property(Employee.class, "supervisor").count()).isZero();
+        assertThat(metrics.planHits() + metrics.planMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void percentileShouldBeUpperBoundOfBucket() {
+        //given
+        HistogramMetrics metrics = new HistogramMetrics();
+        //when
+        for (int i = 0; i < 99; i++) {
+            metrics.supplied(Employee.class, "id", 100);
+        }
+        metrics.supplied(Employee.class, "id", 5000);
+        //then
+        HistogramMetrics.Histogram histogram = metrics.supplier(Employee.class, "id");
+        assertThat(histogram.count()).isEqualTo(100);
+        assertThat(histogram.totalNanos()).isEqualTo(99 * 100 + 5000);
+        assertThat(histogram.percentileNanos(50)).isEqualTo(128);
+        assertThat(histogram.percentileNanos(100)).isEqualTo(8192);
+    }
+
+    @Test
+    void slowSupplierShouldBeRecordedAsJfrEvent() throws IOException {
+        //given
+        Path file = tempDir.resolve("populator.jfr");
+        PopulatorTemplate<Employee> template = PojoPopulator.template(Employee.class, populator -> populator
+                .withValue("city", () -> {
+                    sleep(2);
+                    return "city1";
+                })
+                .usingMetrics(new HistogramMetrics()));
+        //when
+        try (Recording recording = new Recording()) {
+            recording.enable(SlowSupplierEvent.class);
+            recording.start();
+            template.make();
+            recording.stop();
+            recording.dump(file);
+        }
+        //then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertThat(events)
+                .extracting(event -> event.getString("propertyName"))
+                .containsExactly("city");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package de.ossi.pojo;
+
+import java.time.LocalDate;
+
+@SuppressWarnings("unused")
+public interface LazyEmployee {
+    String getFirstname();
+
+    String getLastname();
+
+    void setLastname(String lastname);
+
+    Integer getId();
+
+    double getSalary();
+
+    boolean isActive();
+
+    LocalDate getStartDay();
+
+    default String getFullName() {
+        return getFirstname() + " " + getLastname();
+    }
+}
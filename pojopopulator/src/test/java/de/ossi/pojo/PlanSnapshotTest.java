@@ -0,0 +1,181 @@
+package de.ossi.pojo;
+
+import de.ossi.pojo.SetterReflectionUtil.Setter;
+import de.ossi.pojo.scan.ScannedBean;
+import de.ossi.pojo.scan.ScannedRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PlanSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void writtenSnapshotShouldContainSetters() throws IOException {
+        //given
+        Path file = tempDir.resolve("plans.snapshot");
+        String checksum = PlanSnapshot.checksum(Employee.class);
+        //when
+        int written = PojoPopulator.writeSnapshot(file, List.of(Employee.class));
+        //then
+        assertThat(Files.readAllLines(file))
+                .hasSize(written + 1)
+                .contains("de.ossi.pojo.Employee\tset\tsetFirstname\tjava.lang.String\t" + checksum,
+                        "de.ossi.pojo.Employee\tset\tsetSalary\tdouble\t" + checksum);
+    }
+
+    @Test
+    void loadedSnapshotShouldRestoreSettersOfUnchangedClasses() throws IOException {
+        //given
+        Path file = Files.writeString(tempDir.resolve("plans.snapshot"), """
+                #pojopopulator plan snapshot 3
+                de.ossi.pojo.PlanSnapshotTest$SnapshotBean\tset\tsetName\tjava.lang.String\t%s
+                de.ossi.pojo.MissingBean\tset\tsetName\tjava.lang.String\t0
+                """.formatted(PlanSnapshot.checksum(SnapshotBean.class)));
+        //when
+        List<Class<?>> loaded = PojoPopulator.loadSnapshot(file);
+        SnapshotBean bean = PojoPopulator.create(SnapshotBean.class);
+        //then
+        assertThat(loaded).containsExactly(SnapshotBean.class);
+        assertThat(BeanPlan.of(SnapshotBean.class).setters("set")).extracting(Setter::propertyName).containsExactly("name");
+        assertThat(bean)
+                .extracting(SnapshotBean::getName)
+                .isEqualTo(PojoPopulator.DEFAULT_STRING);
+    }
+
+    @Test
+    void loadedSnapshotShouldNotEnumerateMethodsOfUnchangedClasses() throws IOException {
+        //given
+        //the snapshot omits setCity, which is only found by enumerating the methods of the class
+        Path file = Files.writeString(tempDir.resolve("plans.snapshot"), """
+                #pojopopulator plan snapshot 3
+                de.ossi.pojo.PlanSnapshotTest$PartialBean\tset\tsetName\tjava.lang.String\t%s
+                """.formatted(PlanSnapshot.checksum(PartialBean.class)));
+        //when
+        List<Class<?>> loaded = PojoPopulator.loadSnapshot(file);
+        PartialBean bean = PojoPopulator.create(PartialBean.class);
+        //then
+        assertThat(loaded).containsExactly(PartialBean.class);
+        assertThat(bean)
+                .extracting(PartialBean::getName, PartialBean::getCity)
+                .containsExactly(PojoPopulator.DEFAULT_STRING, null);
+    }
+
+    @Test
+    void changedClassShouldBeScannedInsteadOfLoaded() throws IOException {
+        //given
+        Path file = Files.writeString(tempDir.resolve("plans.snapshot"), """
+                #pojopopulator plan snapshot 3
+                de.ossi.pojo.PlanSnapshotTest$ChangedBean\tset\tsetName\tjava.lang.String\t0
+                """);
+        //when
+        List<Class<?>> loaded = PojoPopulator.loadSnapshot(file);
+        ChangedBean bean = PojoPopulator.create(ChangedBean.class);
+        //then
+        assertThat(loaded).isEmpty();
+        assertThat(bean)
+                .extracting(ChangedBean::getName, ChangedBean::getCity)
+                .containsExactly(PojoPopulator.DEFAULT_STRING, PojoPopulator.DEFAULT_STRING);
+    }
+
+    @Test
+    void fileWithoutHeaderShouldThrowException() throws IOException {
+        //given
+        Path file = Files.writeString(tempDir.resolve("other.txt"), "no snapshot");
+        //when
+        //then
+        assertThatIllegalArgumentException().isThrownBy(() -> PojoPopulator.loadSnapshot(file))
+                .withMessageContaining("no plan snapshot");
+    }
+
+    @Test
+    void packageShouldBePreparedWithBeanClassesOnly() {
+        //given
+        //when
+        List<Class<?>> prepared = PojoPopulator.preparePackage("de.ossi.pojo.scan");
+        //then
+        assertThat(prepared).containsExactly(ScannedBean.class, ScannedRecord.class);
+        assertThat(BeanPlan.of(ScannedBean.class).scannedSetters()).containsKey("set");
+    }
+
+    @Test
+    void classesShouldBePreparedInBackground() throws Exception {
+        //given
+        //when
+        PojoPopulator.prepareInBackground(BackgroundBean.class).get(10, TimeUnit.SECONDS);
+        //then
+        assertThat(BeanPlan.of(BackgroundBean.class).scannedSetters()).containsKey("set");
+    }
+
+    @SuppressWarnings("unused")
+    public static class SnapshotBean {
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static class ChangedBean {
+        private String name;
+        private String city;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static class PartialBean {
+        private String name;
+        private String city;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static class BackgroundBean {
+        public void setName(String name) {
+        }
+    }
+}
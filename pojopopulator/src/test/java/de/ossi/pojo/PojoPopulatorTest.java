@@ -0,0 +1,848 @@
+package de.ossi.pojo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static de.ossi.pojo.PojoPopulator.*;
+import static org.assertj.core.api.Assertions.*;
+
+class PojoPopulatorTest {
+
+    @Test
+    void beanShouldBePopulatedWithDefaultValues() {
+        //given
+        //when
+        Employee employee = PojoPopulator.create(Employee.class);
+        //then
+        assertThat(employee)
+                .extracting(Employee::getId, Employee::getFirstname, Employee::getStartTime)
+                .containsExactly(DEFAULT_NUMBER, DEFAULT_STRING, DEFAULT_LOCALDATETIME);
+    }
+
+    @Test
+    void beanShouldBePopulatedWithSpecifiedValue() {
+        //given
+        //when
+        Employee employee = PojoPopulator.create(Employee.class, populator -> populator
+                .withValue("firstname", () -> "firstname1")
+                .withValue("lastname", () -> "lastname1"));
+        //then
+        assertThat(employee)
+                .extracting(Employee::getFirstname, Employee::getLastname, Employee::getCity)
+                .containsExactly("firstname1", "lastname1", DEFAULT_STRING);
+    }
+
+    @Test
+    void propertyStartingWithSetInBeanShouldBePopulated() {
+        //given
+        //when
+        Employee employee = PojoPopulator.create(Employee.class, populator -> populator
+                .withValue("setProperty", () -> "asd"));
+        //then
+        assertThat(employee)
+                .extracting(Employee::getSetProperty)
+                .isEqualTo("asd");
+    }
+
+    @Test
+    void assigningTheSameClassTwiceShouldThrowException() {
+        //given
+        //when
+        Employee employee = PojoPopulator.create(Employee.class, populator -> populator
+                .withValue("firstname", () -> "1")
+                .withValue("firstname", () -> "2"));
+        //then
+        assertThat(employee)
+                .extracting(Employee::getFirstname)
+                .isEqualTo("2");
+    }
+
+    @Test
+    void primitiveInBeanShouldBePopulated() {
+        //given
+        //when
+        Employee employee = PojoPopulator.create(Employee.class, populator -> populator
+                .withValue(double.class, () -> 2.0)
+                .withValue("active", () -> true));
+        //then
+        assertThat(employee)
+                .extracting(Employee::getSalary, Employee::isActive)
+                .containsExactly(2.0, true);
+    }
+
+    @Test
+    void primitiveInBeanShouldBePopulatedWithPrimitiveSupplier() {
+        //given
+        //when
+        Employee employee = PojoPopulator.create(Employee.class, populator -> populator
+                .withDouble(() -> 3.0)
+                .withBoolean("active", () -> true));
+        //then
+        assertThat(employee)
+                .extracting(Employee::getSalary, Employee::isActive)
+                .containsExactly(3.0, true);
+    }
+
+    @Test
+    void primitiveInBeanShouldBePopulatedByDefault() {
+        //given
+        //when
+        Employee employee = PojoPopulator.create(Employee.class);
+        //then
+        assertThat(employee)
+                .extracting(Employee::getSalary, Employee::isActive)
+                .containsExactly(DEFAULT_NUMBER.doubleValue(), false);
+    }
+
+    @Test
+    void emptyPropertyNameShouldThrowException() {
+        //given
+        //when
+        //then
+        assertThatIllegalArgumentException().isThrownBy(() ->
+                        PojoPopulator.create(Employee.class, populator -> populator.withValue("", () -> "asd")))
+                .withMessageContaining("property name");
+    }
+
+    @Test
+    void nullPropertyNameShouldThrowException() {
+        //given
+        //when
+        //then
+        assertThatNullPointerException().isThrownBy(() ->
+                        PojoPopulator.create(Employee.class, populator -> populator.withValue((String) null, () -> "asd")))
+                .withMessageContaining("propertyName");
+    }
+
+    @Test
+    void emptyClassShouldThrowException() {
+        //given
+        //when
+        //then
+        assertThatNullPointerException().isThrownBy(() ->
+                        PojoPopulator.create(Employee.class, populator -> populator.withValue((Class<String>) null, () -> "asd")))
+                .withMessageContaining("propertyClass");
+    }
+
+    @Test
+    void whenUsingNoDefaultSuppliersShouldNotPopulateBean() {
+        //given
+        //when
+        Employee employee = PojoPopulator.create(Employee.class, populator -> populator
+                .withValue("lastname", () -> "lastname1")
+                .usingNoDefaultSuppliers());
+        //then
+        assertThat(employee)
+                .extracting(Employee::getFirstname, Employee::getLastname)
+                .containsExactly(null, "lastname1");
+    }
+
+    @Test
+    void setterMethodWithoutPrefixShouldBePopulated() {
+        //given
+        //when
+        Employee employee = PojoPopulator.create(Employee.class, populator -> populator
+                .withValue("noPrefix", () -> "asd")
+                .usingNoSetterPrefix());
+        //then
+        assertThat(employee)
+                .extracting(Employee::noPrefix)
+                .isEqualTo("asd");
+    }
+
+    @Test
+    void setterMethodWithoutPrefixShouldBePopulatedByDefault() {
+        //given
+        //when
+        Employee employee = PojoPopulator.create(Employee.class, PojoPopulator::usingNoSetterPrefix);
+        //then
+        assertThat(employee)
+                .extracting(Employee::noPrefix)
+                .isEqualTo(DEFAULT_STRING);
+    }
+
+    @Test
+    void setterMethodWithDifferentPrefixShouldBePopulated() {
+        //given
+        //when
+        Employee employee = PojoPopulator.create(Employee.class, populator -> populator
+                .withValue("differentPrefix", () -> "asd")
+                .usingSetterPrefix("setze"));
+        //then
+        assertThat(employee)
+                .extracting(Employee::holeDifferentPrefix)
+                .isEqualTo("asd");
+    }
+
+    @Test
+    void setterMethodWithDifferentPrefixShouldBePopulatedByDefault() {
+        //given
+        //when
+        Employee employee = PojoPopulator.create(Employee.class, populator -> populator
+                .usingSetterPrefix("setze"));
+        //then
+        assertThat(employee)
+                .extracting(Employee::holeDifferentPrefix)
+                .isEqualTo(DEFAULT_STRING);
+    }
+
+
+    @Test
+    void pojoFieldInPojoShouldBePopulated() {
+        //given
+        Employee supervisor = new Employee();
+        supervisor.setFirstname("supervisor");
+        //when
+        Employee employee = PojoPopulator.create(Employee.class, populator -> populator
+                .withValue("supervisor", () -> supervisor));
+        //then
+        assertThat(employee)
+                .extracting(e -> e.getSupervisor().getFirstname())
+                .isEqualTo("supervisor");
+    }
+
+    @Test
+    void pojoFieldInPojoShouldNotBePopulatedByDefault() {
+        //given
+        //when
+        Employee employee = PojoPopulator.create(Employee.class);
+        //then
+        assertThat(employee)
+                .extracting(Employee::getSupervisor)
+                .isNull();
+    }
+
+    @Test
+    void pojoFieldInPojoShouldBePopulatedUntilMaxDepth() {
+        //given
+        //when
+        Employee employee = PojoPopulator.create(Employee.class, populator -> populator.usingNestedBeans(2));
+        //then
+        assertThat(employee)
+                .extracting(e -> e.getSupervisor().getFirstname(), e -> e.getSupervisor().getSupervisor().getFirstname(),
+                        e -> e.getSupervisor().getSupervisor().getSupervisor())
+                .containsExactly(DEFAULT_STRING, DEFAULT_STRING, null);
+    }
+
+    @Test
+    void nestedBeansOfDifferentClassesShouldBePopulatedUntilMaxDepth() {
+        //given
+        //when
+        Office office = PojoPopulator.create(Office.class, populator -> populator.usingNestedBeans(1));
+        //then
+        assertThat(office)
+                .extracting(o -> o.address().city(), o -> o.address().resident())
+                .containsExactly(DEFAULT_STRING, null);
+    }
+
+    @Test
+    void selfReferentialPojoFieldShouldNotBePopulatedWithCycleDetection() {
+        //given
+        //when
+        Employee employee = PojoPopulator.create(Employee.class, populator -> populator.usingNestedBeans(5).usingCycleDetection());
+        //then
+        assertThat(employee)
+                .extracting(Employee::getSupervisor)
+                .isNull();
+    }
+
+    @Test
+    void cycleOfPojoFieldsShouldEndAtRepeatedClassWithCycleDetection() {
+        //given
+        //when
+        Node node = PojoPopulator.create(Node.class, populator -> populator.usingNestedBeans(5).usingCycleDetection());
+        //then
+        assertThat(node)
+                .extracting(n -> n.link().name(), n -> n.link().node())
+                .containsExactly(DEFAULT_STRING, null);
+    }
+
+    @Test
+    void pojoFieldInPojoShouldBeSharedBetweenBeans() {
+        //given
+        PopulatorTemplate<Employee> template = PojoPopulator.template(Employee.class, populator -> populator
+                .withSharedInstances(Employee.class, 3));
+        //when
+        List<Employee> employees = template.makeMany(100);
+        //then
+        Set<Employee> supervisors = Collections.newSetFromMap(new IdentityHashMap<>());
+        employees.forEach(e -> supervisors.add(e.getSupervisor()));
+        assertThat(supervisors)
+                .hasSizeBetween(1, 3)
+                .doesNotContainNull()
+                .extracting(Employee::getFirstname, Employee::getSupervisor)
+                .containsOnly(tuple(DEFAULT_STRING, null));
+    }
+
+    @Test
+    void sharedPojoFieldsOfParallelBeansShouldOnlyDependOnSeed() {
+        //given
+        Consumer<PojoPopulator<Employee>> options = populator -> populator
+                .usingRandomDefaultValues()
+                .usingRandomStrings(8, 8)
+                .withSharedInstances(Employee.class, 3);
+        PopulatorTemplate<Employee> template = PojoPopulator.template(Employee.class, options);
+        PopulatorTemplate<Employee> otherTemplate = PojoPopulator.template(Employee.class, options);
+        //when
+        List<Employee> supervisors = template.makeParallel(10, 42).stream().map(Employee::getSupervisor).toList();
+        List<Employee> otherSupervisors = otherTemplate.makeParallel(10, 42).stream().map(Employee::getSupervisor).toList();
+        //then
+        assertThat(otherSupervisors)
+                .doesNotContainNull()
+                .usingRecursiveFieldByFieldElementComparator()
+                .isEqualTo(supervisors);
+    }
+
+    @Test
+    void whenUsingRandomValuesShouldBePopulated() {
+        //given
+        //when
+        Employee employee = PojoPopulator.create(Employee.class, PojoPopulator::usingRandomDefaultValues);
+        //then
+        //Testing of Random Values is not possible
+        assertThat(employee)
+                .extracting(Employee::getStartDay, Employee::getStartTime, Employee::getId, Employee::getTechnical_id, Employee::getSalary, Employee::getSalaryf)
+                .doesNotContainNull();
+    }
+
+    @Test
+    void lazyBeanShouldBePopulatedOnFirstAccess() {
+        //given
+        AtomicInteger suppliedValues = new AtomicInteger();
+        LazyEmployee employee = PojoPopulator.lazy(LazyEmployee.class, populator -> populator
+                .withValue("firstname", () -> "firstname" + suppliedValues.incrementAndGet()));
+        //when
+        //then
+        assertThat(suppliedValues).hasValue(0);
+        assertThat(employee)
+                .extracting(LazyEmployee::getFirstname, LazyEmployee::getFirstname, LazyEmployee::getId, LazyEmployee::getStartDay)
+                .containsExactly("firstname1", "firstname1", DEFAULT_NUMBER, DEFAULT_LOCALDATE);
+        assertThat(suppliedValues).hasValue(1);
+    }
+
+    @Test
+    void lazyBeanShouldSupportSettersAndDefaultMethods() {
+        //given
+        LazyEmployee employee = PojoPopulator.lazy(LazyEmployee.class, PojoPopulator::usingNoDefaultSuppliers);
+        //when
+        employee.setLastname("lastname1");
+        //then
+        assertThat(employee)
+                .extracting(LazyEmployee::getFullName, LazyEmployee::getSalary, LazyEmployee::isActive)
+                .containsExactly("null lastname1", 0.0, false);
+    }
+
+    @Test
+    void lazyTemplateShouldMakeIndependentLazyBeans() {
+        //given
+        AtomicInteger suppliedValues = new AtomicInteger();
+        LazyTemplate<LazyEmployee> template = PojoPopulator.lazyTemplate(LazyEmployee.class, populator -> populator
+                .withValue("firstname", () -> "firstname" + suppliedValues.incrementAndGet()));
+        //when
+        List<LazyEmployee> employees = List.of(template.make(), template.make(), template.make());
+        //then
+        assertThat(suppliedValues).hasValue(0);
+        assertThat(employees.get(2).getFirstname()).isEqualTo("firstname1");
+        assertThat(employees.get(0).getFirstname()).isEqualTo("firstname2");
+        assertThat(suppliedValues).hasValue(2);
+    }
+
+    @Test
+    void lazyBeanOfClassShouldThrowException() {
+        //given
+        //when
+        //then
+        assertThatIllegalArgumentException().isThrownBy(() -> PojoPopulator.lazy(Employee.class))
+                .withMessageContaining("interface");
+    }
+
+    @Test
+    void publicBeanShouldBeAccessedByMethodHandles() {
+        //given
+        //when
+        AccessStrategy accessStrategy = PojoPopulator.accessStrategy(Employee.class);
+        //then
+        assertThat(accessStrategy).isEqualTo(AccessStrategy.METHOD_HANDLE);
+    }
+
+    @Test
+    void privateBeanShouldBePopulatedPerReflection() {
+        //given
+        //when
+        PrivateBean bean = PojoPopulator.create(PrivateBean.class);
+        //then
+        assertThat(PojoPopulator.accessStrategy(PrivateBean.class)).isEqualTo(AccessStrategy.REFLECTION);
+        assertThat(bean.name).isEqualTo(DEFAULT_STRING);
+    }
+
+    @Test
+    void templateShouldCreateNewPopulatedBeans() {
+        //given
+        PopulatorTemplate<Employee> template = PojoPopulator.template(Employee.class, populator -> populator
+                .withValue("firstname", () -> "firstname1")
+                .withValue(Integer.class, () -> 2));
+        //when
+        Employee employee1 = template.make();
+        Employee employee2 = template.make();
+        //then
+        assertThat(employee1).isNotSameAs(employee2);
+        assertThat(employee2)
+                .extracting(Employee::getFirstname, Employee::getId, Employee::getLastname)
+                .containsExactly("firstname1", 2, DEFAULT_STRING);
+    }
+
+    @Test
+    void templateShouldNotBeChangedByLaterOptions() {
+        //given
+        AtomicReference<PojoPopulator<Employee>> populatorReference = new AtomicReference<>();
+        PopulatorTemplate<Employee> template = PojoPopulator.template(Employee.class, populatorReference::set);
+        //when
+        populatorReference.get().withValue("firstname", () -> "changed");
+        //then
+        assertThat(template.make())
+                .extracting(Employee::getFirstname)
+                .isEqualTo(DEFAULT_STRING);
+    }
+
+    @Test
+    void makeManyShouldCreateDistinctPopulatedBeans() {
+        //given
+        //when
+        List<Employee> employees = PojoPopulator.template(Employee.class).makeMany(3);
+        //then
+        assertThat(employees)
+                .hasSize(3)
+                .doesNotHaveDuplicates()
+                .extracting(Employee::getFirstname)
+                .containsOnly(DEFAULT_STRING);
+    }
+
+    @Test
+    void streamShouldCreateBeansLazily() {
+        //given
+        AtomicInteger suppliedValues = new AtomicInteger();
+        PopulatorTemplate<Employee> template = PojoPopulator.template(Employee.class, populator -> populator
+                .withValue("id", suppliedValues::incrementAndGet));
+        //when
+        Stream<Employee> employees = template.stream(5);
+        //then
+        assertThat(suppliedValues).hasValue(0);
+        assertThat(employees.limit(2))
+                .extracting(Employee::getId)
+                .containsExactly(1, 2);
+    }
+
+    @Test
+    void fillShouldAddBeansToCollection() {
+        //given
+        List<Employee> employees = new ArrayList<>(List.of(new Employee()));
+        //when
+        PojoPopulator.template(Employee.class).fill(employees, 2);
+        //then
+        assertThat(employees)
+                .extracting(Employee::getFirstname)
+                .containsExactly(null, DEFAULT_STRING, DEFAULT_STRING);
+    }
+
+    @Test
+    void existingBeanShouldBePopulatedAgain() {
+        //given
+        AtomicInteger ids = new AtomicInteger();
+        PopulatorTemplate<Employee> template = PojoPopulator.template(Employee.class, populator -> populator
+                .withValue("id", ids::incrementAndGet));
+        Employee employee = template.make();
+        //when
+        Employee populatedEmployee = template.populate(employee);
+        //then
+        assertThat(populatedEmployee).isSameAs(employee);
+        assertThat(populatedEmployee)
+                .extracting(Employee::getId)
+                .isEqualTo(2);
+    }
+
+    @Test
+    void releasedBeanShouldBeReusedByPool() {
+        //given
+        BeanPool<Employee> pool = PojoPopulator.template(Employee.class, PojoPopulator::usingRandomDefaultValues).pool(1);
+        Employee employee = pool.acquire();
+        pool.release(employee);
+        //when
+        Employee reusedEmployee = pool.acquire();
+        //then
+        assertThat(reusedEmployee).isSameAs(employee);
+        assertThat(pool.size()).isZero();
+        assertThat(pool.acquire()).isNotSameAs(employee);
+    }
+
+    @Test
+    void poolOfRecordShouldThrowException() {
+        //given
+        PopulatorTemplate<Address> template = PojoPopulator.template(Address.class);
+        //when
+        //then
+        assertThatIllegalStateException().isThrownBy(() -> template.pool(1))
+                .withMessageContaining("constructor");
+    }
+
+    @Test
+    void negativeCountShouldThrowException() {
+        //given
+        PopulatorTemplate<Employee> template = PojoPopulator.template(Employee.class);
+        //when
+        //then
+        assertThatIllegalArgumentException().isThrownBy(() -> template.makeMany(-1))
+                .withMessageContaining("count");
+    }
+
+    @Test
+    void makeParallelShouldBeIndependentOfThreadCount() throws Exception {
+        //given
+        PopulatorTemplate<Employee> template = PojoPopulator.template(Employee.class, PojoPopulator::usingRandomDefaultValues);
+        //when
+        List<Employee> singleThreaded = new ForkJoinPool(1).submit(() -> template.makeParallel(1000, 42)).get();
+        List<Employee> multiThreaded = new ForkJoinPool(4).submit(() -> template.makeParallel(1000, 42)).get();
+        //then
+        assertThat(multiThreaded)
+                .hasSize(1000)
+                .doesNotContainNull()
+                .usingRecursiveFieldByFieldElementComparator()
+                .isEqualTo(singleThreaded);
+    }
+
+    @Test
+    void sameSeedShouldCreateSameBeans() {
+        //given
+        //when
+        Employee employee1 = PojoPopulator.create(Employee.class, populator -> populator.usingRandomDefaultValues().usingSeed(42));
+        Employee employee2 = PojoPopulator.create(Employee.class, populator -> populator.usingRandomDefaultValues().usingSeed(42));
+        //then
+        assertThat(employee1)
+                .usingRecursiveComparison()
+                .isEqualTo(employee2);
+    }
+
+    @Test
+    void repeatedMakeOfSeededPopulatorShouldContinueSequence() {
+        //given
+        AtomicReference<PojoPopulator<Employee>> populatorReference = new AtomicReference<>();
+        Employee employee1 = PojoPopulator.create(Employee.class, populator -> populatorReference.set(populator.usingRandomDefaultValues().usingSeed(7)));
+        PopulatorTemplate<Employee> template = PojoPopulator.template(Employee.class, populator -> populator.usingRandomDefaultValues().usingSeed(7));
+        //when
+        Employee employee2 = populatorReference.get().make();
+        //then
+        assertThat(employee2.getId()).isNotEqualTo(employee1.getId());
+        assertThat(List.of(employee1, employee2))
+                .usingRecursiveFieldByFieldElementComparator()
+                .isEqualTo(template.makeMany(2));
+    }
+
+    @Test
+    void repeatedMakeOfUniquePropertyShouldNotRepeatValues() {
+        //given
+        AtomicReference<PojoPopulator<Employee>> populatorReference = new AtomicReference<>();
+        Employee employee1 = PojoPopulator.create(Employee.class, populator -> populatorReference.set(populator.withUnique("id").usingSeed(1)));
+        //when
+        Employee employee2 = populatorReference.get().make();
+        //then
+        assertThat(employee2.getId()).isNotEqualTo(employee1.getId());
+    }
+
+    @Test
+    void uniquePropertyShouldBeUniqueInParallel() {
+        //given
+        PopulatorTemplate<Employee> template = PojoPopulator.template(Employee.class, populator -> populator
+                .withUnique("id")
+                .withUnique("technical_id"));
+        //when
+        List<Employee> employees = template.makeParallel(100_000, 42);
+        //then
+        assertThat(employees).extracting(Employee::getId).doesNotHaveDuplicates();
+        assertThat(employees).extracting(Employee::getTechnical_id).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void uniqueTypeShouldPopulateEachPropertyWithUniqueValues() {
+        //given
+        //when
+        List<Employee> employees = PojoPopulator.template(Employee.class, populator -> populator
+                        .withValue("firstname", () -> "firstname1")
+                        .withUnique(String.class))
+                .makeMany(1000);
+        //then
+        assertThat(employees).extracting(Employee::getFirstname).containsOnly("firstname1");
+        assertThat(employees).extracting(Employee::getLastname).doesNotHaveDuplicates();
+        assertThat(employees).extracting(Employee::getCity).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void uniqueTypeShouldBeUniqueInContainersAndNestedBeans() {
+        //given
+        //when
+        List<Team> teams = PojoPopulator.template(Team.class, populator -> populator
+                        .withUnique(Integer.class)
+                        .withUnique(int.class)
+                        .withSize(5, 5)
+                        .usingNestedBeans(1))
+                .makeMany(100);
+        //then
+        assertThat(teams)
+                .flatMap(team -> Stream.of(team.getIds().stream(), team.getMembers().stream().map(Employee::getId),
+                        Arrays.stream(team.getLevels()).boxed()).flatMap(s -> s).toList())
+                .hasSize(100 * 15)
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    void uniqueUnsupportedTypeShouldThrowException() {
+        //given
+        //when
+        //then
+        assertThatIllegalArgumentException().isThrownBy(() -> PojoPopulator.create(Employee.class, populator -> populator.withUnique("startDay")))
+                .withMessageContaining("LocalDate");
+    }
+
+    @Test
+    void batchSupplierShouldBeCalledOncePerBatch() {
+        //given
+        List<Integer> requestedCounts = new ArrayList<>();
+        AtomicInteger ids = new AtomicInteger();
+        PopulatorTemplate<Employee> template = PojoPopulator.template(Employee.class, populator -> populator
+                .withBatchValue("id", count -> {
+                    requestedCounts.add(count);
+                    return Stream.generate(ids::incrementAndGet).limit(count).toList();
+                }, 64));
+        //when
+        List<Employee> employees = template.makeMany(200);
+        //then
+        assertThat(employees).extracting(Employee::getId).containsExactlyElementsOf(Stream.iterate(1, i -> i + 1).limit(200).toList());
+        assertThat(requestedCounts).containsExactly(16, 32, 64, 64, 64);
+    }
+
+    @Test
+    void methodReferenceShouldNotBeMistakenForBatchSupplier() {
+        //given
+        Random random = new Random(42);
+        //when
+        Employee employee = PojoPopulator.create(Employee.class, populator -> populator.withValue("id", random::nextInt));
+        //then
+        assertThat(employee.getId()).isNotNull();
+    }
+
+    @Test
+    void nonPositiveBatchSizeShouldThrowException() {
+        //given
+        //when
+        //then
+        assertThatIllegalArgumentException().isThrownBy(() -> PojoPopulator.create(Employee.class, populator -> populator
+                        .withBatchValue("id", count -> List.of(1), 0)))
+                .withMessageContaining("batch size");
+    }
+
+    @Test
+    void fieldsShouldBePopulatedIncludingInheritedPrivateFields() {
+        //given
+        //when
+        FieldBean bean = PojoPopulator.create(FieldBean.class, populator -> populator
+                .withValue("name", () -> "name1")
+                .usingFieldAccess());
+        //then
+        assertThat(bean)
+                .extracting(b -> b.name, b -> b.count, FieldBean::baseId, FieldBean::baseName)
+                //the hidden field of the superclass is not populated
+                .containsExactly("name1", DEFAULT_NUMBER.intValue(), DEFAULT_NUMBER.longValue(), null);
+        assertThat(bean.constant).isEqualTo("constant");
+    }
+
+    @Test
+    void fieldsShouldNotBePopulatedWithoutFieldAccess() {
+        //given
+        //when
+        FieldBean bean = PojoPopulator.create(FieldBean.class);
+        //then
+        assertThat(bean)
+                .extracting(b -> b.name, FieldBean::baseName)
+                .containsOnlyNulls();
+    }
+
+    @Test
+    void recordShouldBeMadeByCanonicalConstructor() {
+        //given
+        //when
+        Address address = PojoPopulator.create(Address.class, populator -> populator
+                .withValue("city", () -> "city1")
+                .withInt("zipCode", () -> 12345));
+        //then
+        assertThat(address).isEqualTo(new Address(DEFAULT_STRING, "city1", 12345, null));
+    }
+
+    @Test
+    void nestedRecordAndBeanShouldBePopulated() {
+        //given
+        //when
+        List<Office> offices = PojoPopulator.template(Office.class, populator -> populator.usingNestedBeans(2)).makeMany(2);
+        //then
+        assertThat(offices).allSatisfy(office -> assertThat(office.address())
+                .extracting(Address::city, a -> a.resident().getFirstname())
+                .containsExactly(DEFAULT_STRING, DEFAULT_STRING));
+        assertThat(offices).extracting(Office::floor).containsOnly(DEFAULT_NUMBER.intValue());
+    }
+
+    @Test
+    void immutableClassShouldBeMadeBySingleConstructor() {
+        //given
+        //when
+        ImmutableBean bean = PojoPopulator.create(ImmutableBean.class, populator -> populator.withValue(String.class, () -> "name1"));
+        //then
+        assertThat(bean)
+                .extracting(ImmutableBean::name, ImmutableBean::count)
+                .containsExactly("name1", DEFAULT_NUMBER.longValue());
+    }
+
+    @Test
+    void collectionsMapsAndArraysShouldBePopulatedByElementType() {
+        //given
+        //when
+        Team team = PojoPopulator.create(Team.class);
+        //then
+        assertThat(team.getNames()).containsExactly(DEFAULT_STRING);
+        assertThat(team.getIds()).containsExactly(DEFAULT_NUMBER.intValue());
+        assertThat(team.getScores()).containsExactly(entry(DEFAULT_STRING, DEFAULT_NUMBER.longValue()));
+        assertThat(team.getLevels()).containsExactly(DEFAULT_NUMBER.intValue());
+        assertThat(team.getTags()).containsExactly(DEFAULT_STRING);
+        assertThat(team.getMembers()).isNull();
+        assertThat(team.getRawList()).isNull();
+    }
+
+    @Test
+    void containerSizesShouldBeInRange() {
+        //given
+        AtomicInteger levels = new AtomicInteger();
+        //when
+        List<Team> teams = PojoPopulator.template(Team.class, populator -> populator
+                        .withSize(2, 4)
+                        .withSize("names", 100, 100)
+                        .withInt(levels::incrementAndGet)
+                        .usingNestedBeans(1))
+                .makeMany(50);
+        //then
+        assertThat(teams).allSatisfy(team -> {
+            assertThat(team.getNames()).hasSize(100);
+            assertThat(team.getLevels().length).isBetween(2, 4);
+            assertThat(team.getMembers()).hasSizeBetween(2, 4).doesNotContainNull();
+        });
+        assertThat(teams).extracting(team -> team.getTags().length).contains(2, 3, 4);
+        assertThat(teams).flatMap(team -> Arrays.stream(team.getLevels()).boxed().toList()).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void invalidSizeRangeShouldThrowException() {
+        //given
+        //when
+        //then
+        assertThatIllegalArgumentException().isThrownBy(() -> PojoPopulator.create(Team.class, populator -> populator.withSize(3, 2)))
+                .withMessageContaining("size range");
+    }
+
+    @Test
+    void randomStringsShouldHaveLengthAndAlphabet() {
+        //given
+        //when
+        List<Employee> employees = PojoPopulator.template(Employee.class, populator -> populator.usingRandomStrings(3, 5, "ab"))
+                .makeMany(100);
+        //then
+        assertThat(employees)
+                .extracting(Employee::getFirstname)
+                .allSatisfy(firstname -> assertThat(firstname).hasSizeBetween(3, 5).matches("[ab]+"))
+                .doesNotContain(DEFAULT_STRING);
+    }
+
+    @Test
+    void randomGeneratorAlgorithmShouldBeReproducibleWithSeed() throws Exception {
+        //given
+        PopulatorTemplate<Employee> template = PojoPopulator.template(Employee.class, populator -> populator
+                .usingRandomDefaultValues()
+                .usingRandomStrings(8, 8)
+                .usingRandomGenerator("L64X128MixRandom")
+                .usingSeed(42));
+        //when
+        List<Employee> singleThreaded = new ForkJoinPool(1).submit(() -> template.makeParallel(1000, 42)).get();
+        List<Employee> multiThreaded = new ForkJoinPool(4).submit(() -> template.makeParallel(1000, 42)).get();
+        //then
+        assertThat(multiThreaded)
+                .usingRecursiveFieldByFieldElementComparator()
+                .isEqualTo(singleThreaded);
+    }
+
+    @Test
+    void unknownRandomGeneratorShouldThrowException() {
+        //given
+        //when
+        //then
+        assertThatIllegalArgumentException().isThrownBy(() -> PojoPopulator.create(Employee.class, populator -> populator
+                .usingRandomGenerator("NoSuchRandom")));
+    }
+
+    @SuppressWarnings("unused")
+    private static class PrivateBean {
+        private String name;
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class BaseFieldBean {
+        private long id;
+        private String name;
+
+        long baseId() {
+            return id;
+        }
+
+        String baseName() {
+            return name;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class FieldBean extends BaseFieldBean {
+        private static String ignored;
+        private final String constant = "constant";
+        private String name;
+        private int count;
+    }
+
+    private record Office(Address address, int floor) {
+    }
+
+    private record Node(Link link) {
+    }
+
+    private record Link(String name, Node node) {
+    }
+
+    private static final class ImmutableBean {
+        private final String name;
+        private final long count;
+
+        ImmutableBean(String name, long count) {
+            this.name = name;
+            this.count = count;
+        }
+
+        String name() {
+            return name;
+        }
+
+        long count() {
+            return count;
+        }
+    }
+}
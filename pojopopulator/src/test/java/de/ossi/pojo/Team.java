@@ -0,0 +1,21 @@
+package de.ossi.pojo;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@SuppressWarnings({"unused", "rawtypes"})
+@Getter
+@Setter
+public class Team {
+    private List<String> names;
+    private Set<Integer> ids;
+    private Map<String, Long> scores;
+    private int[] levels;
+    private String[] tags;
+    private List<? extends Employee> members;
+    private List rawList;
+}
@@ -0,0 +1,41 @@
+package de.ossi.pojo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UniqueValuesTest {
+
+    @Test
+    void permute32ShouldNotRepeatValues() {
+        //given
+        Set<Integer> values = new HashSet<>();
+        //when
+        LongStream.range(0, 1_000_000).forEach(index -> values.add(UniqueValues.permute32(index, 42)));
+        //then
+        assertThat(values).hasSize(1_000_000);
+    }
+
+    @Test
+    void permute64ShouldNotRepeatValues() {
+        //given
+        Set<Long> values = new HashSet<>();
+        //when
+        LongStream.range(0, 1_000_000).forEach(index -> values.add(UniqueValues.permute64(index, 42)));
+        //then
+        assertThat(values).hasSize(1_000_000);
+    }
+
+    @Test
+    void differentKeysShouldPermuteDifferently() {
+        //given
+        //when
+        //then
+        assertThat(UniqueValues.permute64(1, 1)).isNotEqualTo(UniqueValues.permute64(1, 2));
+        assertThat(UniqueValues.permute32(1, 1)).isNotEqualTo(UniqueValues.permute32(1, 2));
+    }
+}
@@ -0,0 +1,11 @@
+package de.ossi.pojo.scan;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@SuppressWarnings("unused")
+@Getter
+@Setter
+public class ScannedBean {
+    private String name;
+}
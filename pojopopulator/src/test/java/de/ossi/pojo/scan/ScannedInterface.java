@@ -0,0 +1,6 @@
+package de.ossi.pojo.scan;
+
+@SuppressWarnings("unused")
+public interface ScannedInterface {
+    String getName();
+}
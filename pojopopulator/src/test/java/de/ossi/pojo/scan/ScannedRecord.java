@@ -0,0 +1,4 @@
+package de.ossi.pojo.scan;
+
+public record ScannedRecord(String name) {
+}